@@ -2,8 +2,14 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import javafx.application.Application;
 import javafx.scene.text.Font;
@@ -23,6 +29,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyArchivedBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.ArchivedBookStorage;
@@ -32,6 +39,7 @@ import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -41,6 +49,8 @@ import seedu.address.ui.UiManager;
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 2, true);
+    private static final String MESSAGE_SHARED_ID = "Address book and archived book both contain patient ID(s) %s."
+            + " The archived patients with those IDs have been given new IDs.";
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
@@ -67,7 +77,8 @@ public class MainApp extends Application {
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         ArchivedBookStorage archivedBookStorage = new JsonArchivedBookStorage(userPrefs.getArchivedBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, archivedBookStorage);
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage,
+                archivedBookStorage), userPrefs.getSaveDelay());
 
         model = initModelManager(storage, userPrefs);
 
@@ -100,6 +111,11 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
             initialArchivedBook = archivedBookOptional.orElseGet(ArchivedBook::new);
+            Set<Long> sharedIds = findSharedIds(initialData, initialArchivedBook);
+            if (!sharedIds.isEmpty()) {
+                logger.warning(String.format(MESSAGE_SHARED_ID, sharedIds));
+                initialArchivedBook = withNewIds(initialArchivedBook, sharedIds, initialData);
+            }
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -110,6 +126,37 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs, initialArchivedBook);
     }
 
+    /**
+     * Returns the patient IDs held both by a patient in {@code addressBook} and by one in {@code archivedBook}.
+     */
+    private static Set<Long> findSharedIds(ReadOnlyAddressBook addressBook, ReadOnlyArchivedBook archivedBook) {
+        Set<Long> ids = new HashSet<>();
+        addressBook.getPersonList().forEach(person -> ids.add(person.getId()));
+        Set<Long> sharedIds = new TreeSet<>();
+        archivedBook.getArchivedContactList().stream()
+                .map(Person::getId)
+                .filter(ids::contains)
+                .forEach(sharedIds::add);
+        return sharedIds;
+    }
+
+    /**
+     * Returns a copy of {@code archivedBook} in which the patients with an ID in {@code sharedIds} have been given
+     * IDs above every ID in either book, keeping all of their other details.
+     */
+    private static ArchivedBook withNewIds(ReadOnlyArchivedBook archivedBook, Set<Long> sharedIds,
+            ReadOnlyAddressBook addressBook) {
+        long lastId = Stream.concat(addressBook.getPersonList().stream(),
+                archivedBook.getArchivedContactList().stream()).mapToLong(Person::getId).max().orElse(0);
+        List<Person> archivedPersons = new ArrayList<>();
+        for (Person person : archivedBook.getArchivedContactList()) {
+            archivedPersons.add(sharedIds.contains(person.getId()) ? person.withId(++lastId) : person);
+        }
+        ArchivedBook renumberedBook = new ArchivedBook();
+        renumberedBook.setPersons(archivedPersons);
+        return renumberedBook;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -200,5 +247,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
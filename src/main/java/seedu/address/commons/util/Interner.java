@@ -0,0 +1,42 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share one instance in the
+ * way {@link String#intern()} does for strings.
+ * The pool only holds its instances weakly, and drops an instance once nothing else refers to it.
+ *
+ * @param <T> the value type, whose {@code equals} and {@code hashCode} must be consistent.
+ */
+public class Interner<T> {
+
+    // the values are weak as well, since a value referring to its own key would keep the key alive
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances still in use.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -12,6 +12,10 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    private static final int SOUNDEX_LENGTH = 4;
+    /** The Soundex digit of each letter from A to Z, with 0 for the letters that are not encoded. */
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -48,6 +52,105 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, or {@code maxDistance + 1} if the
+     * distance is greater than {@code maxDistance}. Inserting, deleting or substituting a character, and
+     * swapping two adjacent characters, each count as one edit.
+     * Only the band of the distance table within {@code maxDistance} of the diagonal is computed, and the
+     * computation stops as soon as every entry in a row exceeds {@code maxDistance}.
+     * @throws NullPointerException if {@code first} or {@code second} is null.
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance must not be negative");
+
+        int firstLength = first.length();
+        int secondLength = second.length();
+        if (Math.abs(firstLength - secondLength) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int outOfBand = maxDistance + 1;
+        int[] beforePrevious = new int[secondLength + 1];
+        int[] previous = new int[secondLength + 1];
+        int[] current = new int[secondLength + 1];
+        for (int j = 0; j <= secondLength; j++) {
+            previous[j] = Math.min(j, outOfBand);
+        }
+
+        for (int i = 1; i <= firstLength; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(secondLength, i + maxDistance);
+            current[0] = Math.min(i, outOfBand);
+            if (from > 1) {
+                current[from - 1] = outOfBand;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                int distance = Math.min(substitution, Math.min(deletion, insertion));
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = Math.min(outOfBand, distance);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < secondLength) {
+                current[to + 1] = outOfBand;
+            }
+            if (rowMinimum > maxDistance) {
+                return outOfBand;
+            }
+            int[] reused = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = reused;
+        }
+        return previous[secondLength];
+    }
+
+    /**
+     * Returns the Soundex code of {@code word}: its first letter followed by three digits encoding the sounds
+     * of its following consonants, so that words that sound alike usually share a code.
+     * Characters other than the letters A to Z are ignored, and a word without any such letters has the empty
+     * string as its code.
+     *   <br>examples:<pre>
+     *       soundex("Robert") == "R163"
+     *       soundex("Rupert") == "R163"
+     *       soundex("Lee") == "L000"
+     *       </pre>
+     * @throws NullPointerException if {@code word} is null.
+     */
+    public static String soundex(String word) {
+        requireNonNull(word);
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char previousDigit = 0;
+        for (int i = 0; i < word.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+            }
+            // H and W do not separate consonants with the same code, but vowels do
+            if (letter != 'H' && letter != 'W') {
+                previousDigit = digit;
+            }
+        }
+        while (code.length() > 0 && code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -65,4 +168,21 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code s} represents a non-zero unsigned long
+     * e.g. 1, 2, 3, ..., {@code Long.MAX_VALUE} <br>
+     * Will return false for any other non-null string input, as {@link #isNonZeroUnsignedInteger(String)} does.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isNonZeroUnsignedLong(String s) {
+        requireNonNull(s);
+
+        try {
+            long value = Long.parseLong(s);
+            return value > 0 && !s.startsWith("+"); // "+1" is successfully parsed by Long#parseLong(String)
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns suggested replacements for the last word of a partially typed command.
+     *
+     * @see seedu.address.logic.parser.CommandSuggester#suggest(String)
+     */
+    List<String> getSuggestions(String commandText);
+
     /**
      * Returns the AddressBook.
      *
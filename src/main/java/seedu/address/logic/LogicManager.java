@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,6 +13,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListArchiveCommand;
@@ -19,6 +21,7 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.UnarchiveCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandSuggester;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -44,6 +47,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandSuggester commandSuggester;
 
     private Optional<Command> pendingCommand = Optional.empty();
     private boolean isArchiveMode = false;
@@ -58,6 +62,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser(model);
+        commandSuggester = new CommandSuggester(model);
     }
 
     /**
@@ -86,7 +91,9 @@ public class LogicManager implements Logic {
             pendingCommand = Optional.of(command);
         }
 
-        saveDataSafely();
+        if (!command.isReadOnly()) {
+            saveDataSafely();
+        }
         return commandResult;
     }
 
@@ -169,6 +176,11 @@ public class LogicManager implements Logic {
         }
     }
 
+    @Override
+    public List<String> getSuggestions(String commandText) {
+        return commandSuggester.suggest(commandText);
+    }
+
     /**
      * Handles user confirmation input for a pending command.
      *
@@ -218,7 +230,8 @@ public class LogicManager implements Logic {
                     || command instanceof ListCommand
                     || command instanceof HelpCommand
                     || command instanceof ExitCommand
-                    || command instanceof FindCommand;
+                    || command instanceof FindCommand
+                    || command instanceof FilterCommand;
         } else {
             // In normal mode, disallow UnarchiveCommand
             return !(command instanceof UnarchiveCommand);
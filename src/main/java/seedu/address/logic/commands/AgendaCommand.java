@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.PersonOrder;
+import seedu.address.model.person.AppointmentInRangePredicate;
+
+/**
+ * Lists the patients with appointments on a range of days, in order of appointment time.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the patients with appointments from the first date to the last date (inclusive), "
+            + "in order of appointment time.\n"
+            + "Parameters: today | week | FIRST_DATE [LAST_DATE] (dates in DD-MM-YYYY)\n"
+            + "Example: " + COMMAND_WORD + " 01-06-2030 07-06-2030";
+
+    public static final String MESSAGE_SUCCESS = "%1$d patients with appointments from %2$s to %3$s";
+    public static final String MESSAGE_INVALID_DATE = "Dates must be valid dates in the format DD-MM-YYYY.";
+    public static final String MESSAGE_INVALID_RANGE = "The last date must not be before the first date.";
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+
+    /**
+     * Creates an AgendaCommand listing appointments from the start of {@code firstDay} to the end of
+     * {@code lastDay}.
+     */
+    public AgendaCommand(LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(firstDay, lastDay);
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        AppointmentInRangePredicate predicate = new AppointmentInRangePredicate(firstDay.atStartOfDay(),
+                lastDay.plusDays(1).atStartOfDay());
+        model.updateFilteredPersonList(predicate, PersonOrder.APPOINTMENT.getComparator());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(),
+                firstDay.format(DATE_FORMATTER), lastDay.format(DATE_FORMATTER)));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand otherAgendaCommand)) {
+            return false;
+        }
+
+        return firstDay.equals(otherAgendaCommand.firstDay) && lastDay.equals(otherAgendaCommand.lastDay);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("firstDay", firstDay)
+                .add("lastDay", lastDay)
+                .toString();
+    }
+}
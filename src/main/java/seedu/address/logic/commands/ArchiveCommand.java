@@ -14,12 +14,12 @@ public class ArchiveCommand extends Command {
 
     public static final String COMMAND_WORD = "archive";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Archives the specified contact. \n"
-        + "Parameters: INDEX (must be a positive integer)\n"
+        + "Parameters: INDEX (must be a positive integer) or #PATIENT_ID\n"
         + "Example: " + COMMAND_WORD + " 1";
     public static final String MESSAGE_ARCHIVE_SUCCESS = "Archived Patient : %1$s is now in archive list! \n"
         + "Use 'listarchive' to see archive list.";
     public static final String MESSAGE_PERSON_NOT_FOUND = "This contact does not exist.";
-    public final int targetIndex;
+    private final PersonTarget target;
 
     /**
      * Construct an ArchiveCommand with the specified index.
@@ -27,22 +27,27 @@ public class ArchiveCommand extends Command {
      * @param index the index of the contact ot archive
      */
     public ArchiveCommand(int index) {
-        this.targetIndex = index;
+        this(PersonTarget.atZeroBasedIndex(index));
+    }
+
+    /**
+     * Constructs an ArchiveCommand for the contact identified by {@code target}.
+     *
+     * @param target the index or patient ID of the contact to archive
+     */
+    public ArchiveCommand(PersonTarget target) {
+        requireNonNull(target);
+        this.target = target;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (targetIndex < 0 || targetIndex >= model.getFilteredPersonList().size()) {
-            throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-            ArchiveCommand.MESSAGE_USAGE));
-        }
-
-        Person personToArchive = model.getFilteredPersonList().get(targetIndex);
+        Person personToArchive = target.resolve(model.getFilteredPersonList(), model::getPersonById,
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
 
         model.archivePerson(personToArchive);
-        model.setLastCommandArchiveRelated(true);
 
         return new CommandResult(String.format(MESSAGE_ARCHIVE_SUCCESS, Messages.showName(personToArchive)));
     }
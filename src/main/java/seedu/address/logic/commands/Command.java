@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never changes the address book or the archived book, so there is nothing
+     * to save after it runs.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -19,14 +19,14 @@ public class DeleteCommand extends Command {
     public static final String COMMAND_WORD = "delete";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the patient identified by the index number used"
-            + " in the displayed patient list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + " in the displayed patient list, or by their patient ID.\n"
+            + "Parameters: INDEX (must be a positive integer) or #PATIENT_ID\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Patient : %1$s is removed.";
     public static final String MESSAGE_CONFIRMATION = "Are you sure you want to delete this patient? (y/n)";
 
-    private final Index targetIndex;
+    private final PersonTarget targetIndex;
     private boolean needsConfirmation;
 
     /**
@@ -35,11 +35,19 @@ public class DeleteCommand extends Command {
      * @param targetIndex the index of the person to delete
      */
     public DeleteCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
+        this(PersonTarget.atIndex(targetIndex));
+    }
 
-        this.targetIndex = targetIndex;
-        this.needsConfirmation = true;
+    /**
+     * Constructs a DeleteCommand to delete the person identified by {@code target}.
+     *
+     * @param target the index or patient ID of the person to delete
+     */
+    public DeleteCommand(PersonTarget target) {
+        requireNonNull(target);
 
+        this.targetIndex = target;
+        this.needsConfirmation = true;
     }
 
     @Override
@@ -48,18 +56,14 @@ public class DeleteCommand extends Command {
         List<Person> lastShownList = model.getFilteredPersonList();
 
         // Use ParserUtil's message for consistency with parser
-        if (targetIndex.getZeroBased() >= lastShownList.size() || targetIndex.getZeroBased() < 0) {
-            throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-            DeleteCommand.MESSAGE_USAGE));
-        }
+        Person personToDelete = targetIndex.resolve(lastShownList, model::getPersonById,
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
 
         if (needsConfirmation) {
             needsConfirmation = false;
             return new CommandResult(MESSAGE_CONFIRMATION, false, false, true);
         }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.setLastCommandArchiveRelated(false);
         model.deletePerson(personToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.showName(personToDelete)));
@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -36,9 +35,9 @@ public class EditCommand extends Command {
     public static final String COMMAND_WORD = "edit";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the patient identified "
-            + "by the index number used in the displayed patient list. "
+            + "by the index number used in the displayed patient list, or by their patient ID. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or #PATIENT_ID "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -53,7 +52,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_CONFIRMATION = "Are you sure you want to edit this patient? (y/n)";
     public static final String MESSAGE_NO_CHANGES = "No changes were made to the patient's information.";
 
-    private final Index index;
+    private final PersonTarget index;
     private final EditPersonDescriptor editPersonDescriptor;
 
     private boolean needsConfirmation;
@@ -66,6 +65,16 @@ public class EditCommand extends Command {
      * @param editPersonDescriptor details to edit the person with
      */
     public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
+        this(PersonTarget.atIndex(index), editPersonDescriptor);
+    }
+
+    /**
+     * Constructs an EditCommand that edits the person identified by {@code index}.
+     *
+     * @param index index or patient ID of the person to edit
+     * @param editPersonDescriptor details to edit the person with
+     */
+    public EditCommand(PersonTarget index, EditPersonDescriptor editPersonDescriptor) {
         requireNonNull(index);
         requireNonNull(editPersonDescriptor);
 
@@ -80,17 +89,14 @@ public class EditCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (index.getZeroBased() >= lastShownList.size() || index.getZeroBased() < 0) {
-            throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-            EditCommand.MESSAGE_USAGE));
-        }
+        Person personToEdit = index.resolve(lastShownList, model::getPersonById,
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE));
 
         if (needsConfirmation) {
             needsConfirmation = false;
             return new CommandResult(MESSAGE_CONFIRMATION, false, false, true);
         }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
         // If no changes were made, notify the user
@@ -103,9 +109,7 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        model.setLastCommandArchiveRelated(false);
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -121,8 +125,9 @@ public class EditCommand extends Command {
         Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
 
-        Person editedPerson = new Person(updatedName, updatedPhone, updatedEmail, updatedAddress,
-                personToEdit.getTags(), personToEdit.getAppointment(), personToEdit.getEmergencyContact());
+        Person editedPerson = new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail,
+                updatedAddress, personToEdit.getTags(), personToEdit.getAppointment(),
+                personToEdit.getEmergencyContact());
         return editedPerson;
     }
 
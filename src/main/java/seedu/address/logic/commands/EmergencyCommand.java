@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 
@@ -26,8 +25,8 @@ public class EmergencyCommand extends Command {
     public static final String COMMAND_WORD = "emergency";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the emergency contact of the patient identified "
-            + "by the index number used in the displayed patient list. "
-            + "Parameters: INDEX (must be a positive integer) "
+            + "by the index number used in the displayed patient list, or by their patient ID. "
+            + "Parameters: INDEX (must be a positive integer) or #PATIENT_ID "
             + PREFIX_NAME + "NAME "
             + PREFIX_PHONE + "PHONE "
             + PREFIX_RELATIONSHIP + "RELATIONSHIP\n"
@@ -39,7 +38,7 @@ public class EmergencyCommand extends Command {
     public static final String MESSAGE_EDIT_EMERGENCY_SUCCESS = "Emergency contact for %1$s is now updated!";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
 
-    private final Index index;
+    private final PersonTarget index;
     private final Name emergencyName;
     private final Phone emergencyPhone;
     private final Relationship relationship;
@@ -51,6 +50,17 @@ public class EmergencyCommand extends Command {
      * @param relationship relationship with emergency contact
      */
     public EmergencyCommand(Index index, Name emergencyName, Phone emergencyPhone, Relationship relationship) {
+        this(PersonTarget.atIndex(index), emergencyName, emergencyPhone, relationship);
+    }
+
+    /**
+     * @param index index or patient ID of the person to edit
+     * @param emergencyName name of emergency contact
+     * @param emergencyPhone phone of emergency contact
+     * @param relationship relationship with emergency contact
+     */
+    public EmergencyCommand(PersonTarget index, Name emergencyName, Phone emergencyPhone,
+            Relationship relationship) {
         requireNonNull(index);
         requireNonNull(emergencyName);
         requireNonNull(emergencyPhone);
@@ -67,17 +77,13 @@ public class EmergencyCommand extends Command {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        EmergencyPerson newEmergencyContact = new EmergencyPerson(emergencyName, emergencyPhone, relationship);
+        Person personToEdit = index.resolve(lastShownList, model::getPersonById,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        EmergencyPerson newEmergencyContact =
+                new EmergencyPerson(emergencyName, emergencyPhone, relationship).intern();
         Person editedPerson = personToEdit.setEmergencyContact(newEmergencyContact);
 
-        model.setLastCommandArchiveRelated(false);
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_EMERGENCY_SUCCESS, editedPerson.getName()));
     }
 
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.TagExpression;
+
+/**
+ * Lists all persons whose tags satisfy a boolean expression of tag names.
+ * Tag matching is case insensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons whose tags satisfy the given "
+            + "expression (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Tags may be combined with AND, OR and NOT, and may be limited to a category with "
+            + "ta/ (allergy), tc/ (condition) or ti/ (insurance).\n"
+            + "Parameters: TAG [AND|OR|NOT TAG]...\n"
+            + "Example: " + COMMAND_WORD + " asthma AND ti/medisave NOT ta/peanuts";
+
+    private final TagExpression expression;
+
+    public FilterCommand(TagExpression expression) {
+        this.expression = expression;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (model.isArchiveMode()) {
+            model.updateArchivedFilteredPersonList(expression);
+            return new CommandResult(String.format(
+                    Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredArchivedPersonList().size()),
+                    CommandResult.ListType.ARCHIVE);
+        }
+        model.updateFilteredPersonList(expression);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return expression.equals(otherFilterCommand.expression);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("expression", expression)
+                .toString();
+    }
+}
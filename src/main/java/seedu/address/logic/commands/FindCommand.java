@@ -2,14 +2,21 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.FuzzyMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticMatchPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. A fuzzy search instead lists the persons with a name or address
+ * similar to the keywords, most similar first.
  */
 public class FindCommand extends Command {
 
@@ -18,28 +25,58 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "A keyword ending in * matches words starting with it. Keywords starting with ~ find names and "
+            + "addresses with similar words instead, ranked by similarity, and keywords starting with ? find "
+            + "names with words that sound alike.\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
-    private final NameContainsKeywordsPredicate predicate;
+    public static final String MESSAGE_MIXED_KEYWORD_MODES = "Keywords starting with "
+            + FuzzyMatchPredicate.FUZZY_MARKER + " or " + PhoneticMatchPredicate.PHONETIC_MARKER
+            + " cannot be mixed with other keywords";
+
+    private final Predicate<Person> predicate;
+    private final Comparator<Person> order;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.order = null;
+    }
+
+    /**
+     * Creates a FindCommand for a fuzzy search, listing the matched persons from the most similar.
+     */
+    public FindCommand(FuzzyMatchPredicate predicate) {
+        this.predicate = predicate;
+        this.order = predicate.bySimilarity();
+    }
+
+    /**
+     * Creates a FindCommand for a search by sound.
+     */
+    public FindCommand(PhoneticMatchPredicate predicate) {
+        this.predicate = predicate;
+        this.order = null;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         if (model.isArchiveMode()) {
-            model.updateArchivedFilteredPersonList(predicate);
+            model.updateArchivedFilteredPersonList(predicate, order);
             return new CommandResult(String.format(
                     Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredArchivedPersonList().size()),
                     CommandResult.ListType.ARCHIVE);
         }
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate, order);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -31,4 +31,9 @@ public class ListArchiveCommand extends Command {
         model.updateArchivedFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS, CommandResult.ListType.ARCHIVE);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -34,4 +34,9 @@ public class ListCommand extends Command {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS, CommandResult.ListType.NORMAL);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
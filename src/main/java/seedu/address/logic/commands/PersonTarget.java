@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+
+/**
+ * Identifies the patient a command acts on, either by their {@code Index} in the displayed list or by their
+ * patient ID. A patient ID is written with a leading {@value #ID_MARKER}, such as {@code #42}, and keeps
+ * identifying the same patient however the list is filtered or sorted.
+ */
+public class PersonTarget {
+
+    public static final String ID_MARKER = "#";
+
+    private final boolean isById;
+    /** The index of the patient in the displayed list, or null if it is by ID or the index is negative. */
+    private final Index index;
+    private final long id;
+
+    private PersonTarget(boolean isById, Index index, long id) {
+        this.isById = isById;
+        this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Returns a target identifying the patient at {@code index} in the displayed list.
+     */
+    public static PersonTarget atIndex(Index index) {
+        requireNonNull(index);
+        return new PersonTarget(false, index, 0);
+    }
+
+    /**
+     * Returns a target identifying the patient at {@code zeroBasedIndex} in the displayed list. A negative index
+     * identifies no patient, and is reported as outside the list when the target is resolved.
+     */
+    public static PersonTarget atZeroBasedIndex(int zeroBasedIndex) {
+        return new PersonTarget(false, zeroBasedIndex < 0 ? null : Index.fromZeroBased(zeroBasedIndex), 0);
+    }
+
+    /**
+     * Returns a target identifying the patient with patient ID {@code id}.
+     */
+    public static PersonTarget withId(long id) {
+        return new PersonTarget(true, null, id);
+    }
+
+    /**
+     * Returns the patient identified by this target.
+     *
+     * @param shownList The displayed list that an index refers to.
+     * @param lookup Finds the patient with a given patient ID.
+     * @param invalidIndexMessage The message to report if the index is outside {@code shownList}.
+     * @throws CommandException if there is no such patient.
+     */
+    public Person resolve(List<Person> shownList, LongFunction<Optional<Person>> lookup,
+            String invalidIndexMessage) throws CommandException {
+        requireNonNull(shownList);
+        if (isById) {
+            return lookup.apply(id).orElseThrow(() ->
+                    new CommandException(String.format(Messages.MESSAGE_UNKNOWN_PATIENT_ID, id)));
+        }
+        if (index == null || index.getZeroBased() >= shownList.size()) {
+            throw new CommandException(invalidIndexMessage);
+        }
+        return shownList.get(index.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonTarget)) {
+            return false;
+        }
+
+        PersonTarget otherTarget = (PersonTarget) other;
+        return isById == otherTarget.isById && Objects.equals(index, otherTarget.index) && id == otherTarget.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isById, index, id);
+    }
+
+    @Override
+    public String toString() {
+        return isById ? ID_MARKER + id : String.valueOf(index);
+    }
+}
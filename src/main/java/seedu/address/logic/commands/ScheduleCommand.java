@@ -19,7 +19,7 @@ public class ScheduleCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds a schedule to the schedule list.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or #PATIENT_ID "
             + "DD-MM-YYYY HH:MM\n";
 
     public static final String MESSAGE_SUCCESS = "New schedule added!";
@@ -31,7 +31,7 @@ public class ScheduleCommand extends Command {
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "This appointment already exists in the schedule";
     public static final String MESSAGE_INVALID_TIME = "Please enter a valid date and time";
 
-    private final Index index;
+    private final PersonTarget index;
     private Appointment appointment;
 
     /**
@@ -41,6 +41,16 @@ public class ScheduleCommand extends Command {
      * @param appointment The appointment date and time.
      */
     public ScheduleCommand(Index index, Appointment appointment) {
+        this(PersonTarget.atIndex(index), appointment);
+    }
+
+    /**
+     * Constructs a {@code ScheduleCommand} to schedule an appointment for the person identified by {@code index}.
+     *
+     * @param index The index or patient ID of the person.
+     * @param appointment The appointment date and time.
+     */
+    public ScheduleCommand(PersonTarget index, Appointment appointment) {
         this.index = index;
         this.appointment = appointment;
     }
@@ -61,19 +71,13 @@ public class ScheduleCommand extends Command {
         }
 
         List<Person> lastShownList = model.getFilteredPersonList();
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        System.out.println(appointment);
-        System.out.println(index);
+        Person personToEdit = index.resolve(lastShownList, model::getPersonById,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
 
         // Create an updated person instance with the new appointment
         Person editedPerson = personToEdit.withAppointment(appointment);
 
         // Update the model with the edited person
-        model.setLastCommandArchiveRelated(false);
         model.setPerson(personToEdit, editedPerson);
 
         return new CommandResult(MESSAGE_SUCCESS);
@@ -1,12 +1,11 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.model.Model;
 
 /**
- * Sorts all persons in the address book by the specified field.
+ * Shows all persons in the address book sorted by the specified field.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
@@ -39,11 +38,14 @@ public class SortCommand extends Command {
             throw new AssertionError("Unknown sort field: " + sortField);
         }
 
-        model.setLastCommandArchiveRelated(false);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_SUCCESS, sortField));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
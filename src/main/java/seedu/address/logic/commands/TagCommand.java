@@ -31,6 +31,7 @@ public class TagCommand extends Command {
             + "Parameters:\n"
             + "  Adding tags: INDEX " + PREFIX_ALLERGY + "TAG " + PREFIX_CONDITION + "TAG " + PREFIX_INSURANCE + "TAG\n"
             + "  Deleting a tag: INDEX td/TAG\n"
+            + "  INDEX may also be a #PATIENT_ID.\n"
             + "Example:\n"
             + "  " + COMMAND_WORD + " 1 " + PREFIX_ALLERGY + "Peanuts\n"
             + "  " + COMMAND_WORD + " 1 " + PREFIX_CONDITION + "Asthma\n"
@@ -44,7 +45,7 @@ public class TagCommand extends Command {
     public static final String MESSAGE_DUPLICATE_TAGS = "Some tags are already in the patient's tag list";
     public static final String MESSAGE_TAG_NOT_FOUND = "Tag not found in the patient's tag list";
 
-    private final Index targetIndex;
+    private final PersonTarget targetIndex;
     private final Set<Tag> allergies;
     private final Set<Tag> conditions;
     private final Set<Tag> insurances;
@@ -61,12 +62,23 @@ public class TagCommand extends Command {
      */
     public TagCommand(Index targetIndex, Set<Tag> allergies, Set<Tag> conditions, Set<Tag> insurances,
                       Set<Tag> tagsToDelete) {
-        requireNonNull(targetIndex);
+        this(PersonTarget.atIndex(targetIndex), allergies, conditions, insurances, tagsToDelete);
+    }
+
+    /**
+     * Constructs a TagCommand object to add, delete, or edit tags for the person identified by {@code target}.
+     *
+     * @param target The index or patient ID of the person to add, delete, or edit tags.
+     * @see #TagCommand(Index, Set, Set, Set, Set)
+     */
+    public TagCommand(PersonTarget target, Set<Tag> allergies, Set<Tag> conditions, Set<Tag> insurances,
+                      Set<Tag> tagsToDelete) {
+        requireNonNull(target);
         requireNonNull(allergies);
         requireNonNull(conditions);
         requireNonNull(insurances);
 
-        this.targetIndex = targetIndex;
+        this.targetIndex = target;
         this.allergies = allergies;
         this.conditions = conditions;
         this.insurances = insurances;
@@ -86,22 +98,27 @@ public class TagCommand extends Command {
 
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException("The person index is invalid.");
-        }
-
-        Person personToTag = lastShownList.get(targetIndex.getZeroBased());
+        Person personToTag = targetIndex.resolve(lastShownList, model::getPersonById,
+                "The person index is invalid.");
         checkForCrossCategoryDuplicates();
 
         if (!tagsToDelete.isEmpty()) {
-            for (Tag tagToDelete : tagsToDelete) {
-                boolean tagFound = personToTag.getTags().stream().anyMatch(tagSet -> tagSet.contains(tagToDelete));
-                if (!tagFound) {
-                    throw new CommandException(MESSAGE_TAG_NOT_FOUND);
+            // All deletions form one undoable change, and none of them is kept if any tag is missing
+            model.beginTransaction();
+            try {
+                for (Tag tagToDelete : tagsToDelete) {
+                    boolean tagFound = personToTag.getTags().stream()
+                            .anyMatch(tagSet -> tagSet.contains(tagToDelete));
+                    if (!tagFound) {
+                        throw new CommandException(MESSAGE_TAG_NOT_FOUND);
+                    }
+                    personToTag = model.deleteTagFromPerson(personToTag, Collections.singleton(tagToDelete));
                 }
-                model.setLastCommandArchiveRelated(false);
-                personToTag = model.deleteTagFromPerson(personToTag, Collections.singleton(tagToDelete));
+            } catch (CommandException | RuntimeException e) {
+                model.rollbackTransaction();
+                throw e;
             }
+            model.commitTransaction();
             return new CommandResult(String.format(MESSAGE_DELETE_SUCCESS, Messages.showTag(personToTag)));
         }
         Set<Tag> allTags = mergeTags();
@@ -111,7 +128,6 @@ public class TagCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_TAGS);
         }
 
-        model.setLastCommandArchiveRelated(false);
         Person updatedPerson = model.addTagsToPerson(personToTag, allergies, conditions, insurances);
         return new CommandResult(String.format(MESSAGE_ADD_SUCCESS, Messages.showTag(updatedPerson)));
     }
@@ -14,29 +14,38 @@ public class UnarchiveCommand extends Command {
 
     public static final String COMMAND_WORD = "unarchive";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Restores the specified archived contact. \n"
-        + "Parameters: INDEX (must be a positive integer)\n"
+        + "Parameters: INDEX (must be a positive integer) or #PATIENT_ID\n"
         + "Example: " + COMMAND_WORD + " 1";
     public static final String MESSAGE_SUCCESS = "Restored Contact: %1$s is added back to patient list! \n"
         + "Use 'list' to see patient list.";
     public static final String MESSAGE_PERSON_NOT_FOUND = "Person not found in archive.";
-    public final int targetIndex;
+    private final PersonTarget target;
 
+    /**
+     * Constructs an UnarchiveCommand for the archived contact at the one-based {@code targetIndex}.
+     */
     public UnarchiveCommand(int targetIndex) {
-        this.targetIndex = targetIndex;
+        this(PersonTarget.atZeroBasedIndex(targetIndex - 1));
+    }
+
+    /**
+     * Constructs an UnarchiveCommand for the archived contact identified by {@code target}.
+     *
+     * @param target the index or patient ID of the contact to restore
+     */
+    public UnarchiveCommand(PersonTarget target) {
+        requireNonNull(target);
+        this.target = target;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (targetIndex <= 0 || targetIndex > model.getFilteredArchivedPersonList().size()) {
-            throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-            UnarchiveCommand.MESSAGE_USAGE));
-        }
-
-        Person personToRestore = model.getFilteredArchivedPersonList().get(targetIndex - 1);
+        Person personToRestore = target.resolve(model.getFilteredArchivedPersonList(),
+                model::getArchivedPersonById,
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, UnarchiveCommand.MESSAGE_USAGE));
         model.unarchivePerson(personToRestore);
-        model.setLastCommandArchiveRelated(true);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.showName(personToRestore)),
         CommandResult.ListType.ARCHIVE);
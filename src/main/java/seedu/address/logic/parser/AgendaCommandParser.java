@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AgendaCommand object.
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    public static final String KEYWORD_TODAY = "today";
+    public static final String KEYWORD_WEEK = "week";
+
+    private final Clock clock;
+
+    public AgendaCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a parser that resolves {@code today} and {@code week} against {@code clock}.
+     */
+    public AgendaCommandParser(Clock clock) {
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AgendaCommand
+     * and returns an AgendaCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    @Override
+    public AgendaCommand parse(String args) throws ParseException {
+        String[] parts = args.trim().split("\\s+");
+        if (parts[0].isEmpty() || parts.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+
+        if (parts.length == 1) {
+            LocalDate today = LocalDate.now(clock);
+            switch (parts[0].toLowerCase()) {
+            case KEYWORD_TODAY:
+                return new AgendaCommand(today, today);
+            case KEYWORD_WEEK:
+                return new AgendaCommand(today, today.plusDays(6));
+            default:
+                LocalDate day = parseDate(parts[0]);
+                return new AgendaCommand(day, day);
+            }
+        }
+
+        LocalDate firstDay = parseDate(parts[0]);
+        LocalDate lastDay = parseDate(parts[1]);
+        if (lastDay.isBefore(firstDay)) {
+            throw new ParseException(AgendaCommand.MESSAGE_INVALID_RANGE);
+        }
+        return new AgendaCommand(firstDay, lastDay);
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date, AgendaCommand.DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(AgendaCommand.MESSAGE_INVALID_DATE, e);
+        }
+    }
+}
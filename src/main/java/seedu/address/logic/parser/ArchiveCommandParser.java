@@ -1,7 +1,7 @@
 package seedu.address.logic.parser;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.PersonTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -16,8 +16,8 @@ public class ArchiveCommandParser implements Parser<ArchiveCommand> {
     @Override
     public ArchiveCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new ArchiveCommand(index.getZeroBased());
+            PersonTarget target = ParserUtil.parsePersonTarget(args);
+            return new ArchiveCommand(target);
         } catch (ParseException pe) {
             throw new ParseException(
                 String.format("Invalid command format! \n%s", ArchiveCommand.MESSAGE_USAGE), pe);
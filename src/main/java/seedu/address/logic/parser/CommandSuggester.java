@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.TagCategory;
+
+/**
+ * Suggests completions for the last word of a partially typed command.
+ * The keywords of {@code find} are completed from the words of the patients' names, emails and phones, and
+ * the tags of {@code filter} from the patients' tag names.
+ */
+public class CommandSuggester {
+
+    public static final int MAX_SUGGESTIONS = 8;
+
+    private static final Pattern PARTIAL_COMMAND_FORMAT =
+            Pattern.compile("(?<commandWord>\\S+)\\s+(?:.*\\s)?(?<lastWord>\\S+)");
+
+    private final Model model;
+
+    /**
+     * Creates a {@code CommandSuggester} that draws its suggestions from {@code model}.
+     */
+    public CommandSuggester(Model model) {
+        this.model = requireNonNull(model);
+    }
+
+    /**
+     * Returns up to {@link #MAX_SUGGESTIONS} replacements for the last word of {@code commandText}, in
+     * alphabetical order, or an empty list if there is nothing to complete.
+     */
+    public List<String> suggest(String commandText) {
+        requireNonNull(commandText);
+        Matcher matcher = PARTIAL_COMMAND_FORMAT.matcher(commandText.stripLeading());
+        if (!matcher.matches()) {
+            return List.of();
+        }
+
+        String lastWord = matcher.group("lastWord");
+        switch (matcher.group("commandWord")) {
+        case FindCommand.COMMAND_WORD:
+            return suggestKeywords(lastWord);
+        case FilterCommand.COMMAND_WORD:
+            return suggestTagNames(lastWord);
+        default:
+            return List.of();
+        }
+    }
+
+    private List<String> suggestKeywords(String lastWord) {
+        String prefix = NameContainsKeywordsPredicate.isPrefixKeyword(lastWord)
+                ? NameContainsKeywordsPredicate.stripPrefixMarker(lastWord)
+                : lastWord;
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        return model.getWordsStartingWith(prefix, MAX_SUGGESTIONS);
+    }
+
+    private List<String> suggestTagNames(String lastWord) {
+        TagCategory category = FilterCommandParser.categoryOf(lastWord);
+        String categoryPrefix = category == null ? "" : FilterCommandParser.prefixOf(category).getPrefix();
+        String prefix = lastWord.substring(categoryPrefix.length());
+        if (prefix.isEmpty() || FilterCommandParser.isOperator(prefix)) {
+            return List.of();
+        }
+        return model.getTagNamesStartingWith(category, prefix, MAX_SUGGESTIONS).stream()
+                .map(tagName -> categoryPrefix + tagName)
+                .toList();
+    }
+}
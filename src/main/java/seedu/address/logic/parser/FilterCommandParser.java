@@ -0,0 +1,127 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INSURANCE;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.StringJoiner;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TagExpression;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object.
+ * The operators are {@code NOT}, {@code AND} and {@code OR}, in decreasing order of precedence, and must be
+ * written in upper case. {@code x NOT y} is read as {@code x AND NOT y}. Consecutive words that are not
+ * operators form a single tag name, and a tag name may start with a category prefix.
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FilterCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        Deque<String> tokens = new ArrayDeque<>(Arrays.asList(trimmedArgs.split("\\s+")));
+        TagExpression expression = parseOr(tokens);
+        if (!tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+        return new FilterCommand(expression);
+    }
+
+    private static TagExpression parseOr(Deque<String> tokens) throws ParseException {
+        TagExpression expression = parseAnd(tokens);
+        while (OPERATOR_OR.equals(tokens.peek())) {
+            tokens.pop();
+            expression = TagExpression.or(expression, parseAnd(tokens));
+        }
+        return expression;
+    }
+
+    private static TagExpression parseAnd(Deque<String> tokens) throws ParseException {
+        TagExpression expression = parseNot(tokens);
+        while (OPERATOR_AND.equals(tokens.peek()) || OPERATOR_NOT.equals(tokens.peek())) {
+            if (OPERATOR_AND.equals(tokens.peek())) {
+                tokens.pop();
+            }
+            expression = TagExpression.and(expression, parseNot(tokens));
+        }
+        return expression;
+    }
+
+    private static TagExpression parseNot(Deque<String> tokens) throws ParseException {
+        if (OPERATOR_NOT.equals(tokens.peek())) {
+            tokens.pop();
+            return TagExpression.not(parseNot(tokens));
+        }
+        return parseTag(tokens);
+    }
+
+    private static TagExpression parseTag(Deque<String> tokens) throws ParseException {
+        if (tokens.isEmpty() || isOperator(tokens.peek())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        String firstWord = tokens.pop();
+        TagCategory category = categoryOf(firstWord);
+        StringJoiner tagName = new StringJoiner(" ");
+        tagName.add(category == null ? firstWord : firstWord.substring(prefixOf(category).getPrefix().length()));
+        while (!tokens.isEmpty() && !isOperator(tokens.peek())) {
+            tagName.add(tokens.pop());
+        }
+
+        String name = tagName.toString();
+        if (!Tag.isValidTagName(name)) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return TagExpression.tag(category, name);
+    }
+
+    /**
+     * Returns the category named by the prefix of {@code word}, or null if it has no category prefix.
+     */
+    static TagCategory categoryOf(String word) {
+        for (TagCategory category : TagCategory.values()) {
+            if (word.startsWith(prefixOf(category).getPrefix())) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    static Prefix prefixOf(TagCategory category) {
+        switch (category) {
+        case ALLERGY:
+            return PREFIX_ALLERGY;
+        case CONDITION:
+            return PREFIX_CONDITION;
+        case INSURANCE:
+            return PREFIX_INSURANCE;
+        default:
+            throw new AssertionError("Unknown tag category: " + category);
+        }
+    }
+
+    static boolean isOperator(String word) {
+        return OPERATOR_AND.equals(word) || OPERATOR_OR.equals(word) || OPERATOR_NOT.equals(word);
+    }
+}
@@ -2,11 +2,15 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FuzzyMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneticMatchPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -26,8 +30,42 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        String marker = markerOf(nameKeywords[0]);
+        if (marker.isEmpty()) {
+            if (Arrays.stream(nameKeywords).anyMatch(keyword -> !markerOf(keyword).isEmpty())) {
+                throw new ParseException(FindCommand.MESSAGE_MIXED_KEYWORD_MODES);
+            }
+            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
+
+        List<String> keywords = new ArrayList<>();
+        for (String keyword : nameKeywords) {
+            if (!markerOf(keyword).equals(marker)) {
+                throw new ParseException(FindCommand.MESSAGE_MIXED_KEYWORD_MODES);
+            }
+            String unmarkedKeyword = keyword.substring(marker.length());
+            if (unmarkedKeyword.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            keywords.add(unmarkedKeyword);
+        }
+        return marker.equals(FuzzyMatchPredicate.FUZZY_MARKER)
+                ? new FindCommand(new FuzzyMatchPredicate(keywords))
+                : new FindCommand(new PhoneticMatchPredicate(keywords));
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Returns the marker at the start of {@code keyword} that selects a fuzzy search or a search by sound, or
+     * the empty string if it has none.
+     */
+    private static String markerOf(String keyword) {
+        if (keyword.startsWith(FuzzyMatchPredicate.FUZZY_MARKER)) {
+            return FuzzyMatchPredicate.FUZZY_MARKER;
+        } else if (keyword.startsWith(PhoneticMatchPredicate.PHONETIC_MARKER)) {
+            return PhoneticMatchPredicate.PHONETIC_MARKER;
+        }
+        return "";
     }
 
 }
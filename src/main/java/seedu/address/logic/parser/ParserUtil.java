@@ -8,6 +8,7 @@ import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.PersonTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -23,6 +24,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_PATIENT_ID = "Patient ID is not a non-zero unsigned number.";
     public static final String MESSAGE_INVALID_PHONE = "Phone numbers must be exactly 8 digits "
             + "and start with 6, 8 or 9";
     public static final String MESSAGE_INVALID_EMAIL = "Email addresses must not contain spaces.";
@@ -41,6 +43,26 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code target} into a {@code PersonTarget} and returns it. A target starting with
+     * {@value PersonTarget#ID_MARKER} is a patient ID; any other target is a one-based index.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified patient ID or index is invalid.
+     */
+    public static PersonTarget parsePersonTarget(String target) throws ParseException {
+        String trimmedTarget = target.trim();
+        if (!trimmedTarget.startsWith(PersonTarget.ID_MARKER)) {
+            return PersonTarget.atIndex(parseIndex(trimmedTarget));
+        }
+
+        String id = trimmedTarget.substring(PersonTarget.ID_MARKER.length());
+        if (!StringUtil.isNonZeroUnsignedLong(id)) {
+            throw new ParseException(MESSAGE_INVALID_PATIENT_ID);
+        }
+        return PersonTarget.withId(Long.parseLong(id));
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -91,7 +113,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress) || trimmedAddress.isEmpty()) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return new Address(trimmedAddress).intern();
     }
 
     /**
@@ -127,7 +149,7 @@ public class ParserUtil {
         if (!Relationship.isValidRelationship(trimmedRelationship)) {
             throw new ParseException(Relationship.MESSAGE_CONSTRAINTS);
         }
-        return new Relationship(trimmedRelationship);
+        return new Relationship(trimmedRelationship).intern();
     }
 
     /**
@@ -142,7 +164,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return new Tag(trimmedTag).intern();
     }
 
     /**
@@ -11,8 +11,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.PersonTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 
@@ -41,7 +41,7 @@ public class TagCommandParser implements Parser<TagCommand> {
         }
 
         // Parse index from the argument preamble
-        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        PersonTarget index = ParserUtil.parsePersonTarget(argMultimap.getPreamble());
 
         // Check if there are tags to add, delete, or edit
         Set<Tag> allergies = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_ALLERGY));
@@ -1,7 +1,7 @@
 package seedu.address.logic.parser;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.UnarchiveCommand;
+import seedu.address.logic.commands.PersonTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -16,8 +16,8 @@ public class UnarchiveCommandParser implements Parser<UnarchiveCommand> {
     @Override
     public UnarchiveCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new UnarchiveCommand(index.getOneBased());
+            PersonTarget target = ParserUtil.parsePersonTarget(args);
+            return new UnarchiveCommand(target);
         } catch (ParseException pe) {
             throw new ParseException(
                 String.format("Invalid command format! \n%s", UnarchiveCommand.MESSAGE_USAGE), pe);
@@ -2,12 +2,19 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.FuzzyMatchPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticMatchPredicate;
+import seedu.address.model.person.TagExpression;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagCategory;
 
 /**
  * Wraps all data at the address-book level
@@ -42,7 +49,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Replaces the contents of the person list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, nor persons sharing a patient ID.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
@@ -50,10 +57,15 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Data copied from another {@code AddressBook} is already unique and is not validated again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook otherAddressBook) {
+            persons.setPersons(otherAddressBook.persons);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -67,6 +79,120 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns true if a person, other than {@code original}, with the same identity as {@code editedPerson}
+     * exists in the address book.
+     */
+    public boolean hasConflictingPerson(Person editedPerson, Person original) {
+        requireNonNull(editedPerson);
+        return persons.containsExcluding(editedPerson, original);
+    }
+
+    /**
+     * Returns true if a person in the address book has an appointment that clashes with {@code appointment}.
+     */
+    public boolean hasClashingAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        return persons.hasClashingAppointment(appointment);
+    }
+
+    /**
+     * Returns the persons whose appointments start at or after {@code from} and before {@code to}, in order of
+     * appointment time.
+     */
+    public List<Person> getPersonsWithAppointmentBetween(LocalDateTime from, LocalDateTime to) {
+        return persons.getPersonsWithAppointmentBetween(from, to);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the address book, or -1 if there is none.
+     */
+    public int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the person with patient ID {@code id}, if they are in the address book.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return persons.getPersonById(id);
+    }
+
+    /**
+     * Returns {@code person} if they would keep their patient ID when added to the address book, or else a copy
+     * of them with the new ID they would be given.
+     */
+    public Person assignId(Person person) {
+        return persons.assignId(person);
+    }
+
+    /**
+     * Ensures that no patient ID up to {@code id} is given to a person added to the address book later.
+     */
+    public void reserveIdsUpTo(long id) {
+        persons.reserveIdsUpTo(id);
+    }
+
+    /**
+     * Returns the highest patient ID held or reserved by the address book so far.
+     */
+    public long getLastId() {
+        return persons.getLastId();
+    }
+
+    /**
+     * Returns a number that changes whenever a person is added, replaced or removed.
+     */
+    @Override
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns the persons matched by {@code expression}, in no particular order.
+     */
+    public List<Person> getPersonsMatching(TagExpression expression) {
+        return persons.getPersonsMatching(expression);
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate}, in no particular order.
+     */
+    public List<Person> getPersonsMatching(FuzzyMatchPredicate predicate) {
+        return persons.getPersonsMatching(predicate);
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate}, in no particular order.
+     */
+    public List<Person> getPersonsMatching(PhoneticMatchPredicate predicate) {
+        return persons.getPersonsMatching(predicate);
+    }
+
+    /**
+     * Returns the persons with any of {@code keywords} as a full word of their name, email or phone, ignoring
+     * case, in no particular order.
+     */
+    public List<Person> getPersonsWithAnyKeyword(Collection<String> keywords) {
+        return persons.getPersonsWithAnyKeyword(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} of the words of the persons' names, emails and phones that start with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getWordsStartingWith(String prefix, int limit) {
+        return persons.getWordsStartingWith(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} of the persons' tag names in {@code category}, or in any category if
+     * {@code category} is null, that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getTagNamesStartingWith(TagCategory category, String prefix, int limit) {
+        return persons.getTagNamesStartingWith(category, prefix, limit);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -75,6 +201,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the address book at {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -94,28 +228,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
-    /**
-     * Sorts persons in this address book by name alphabetically.
-     */
-    public void sortPersonsByName() {
-        Comparator<Person> nameComparator = Comparator.comparing(
-                person -> person.getName().toString().toLowerCase()
-        );
-
-        persons.sort(nameComparator);
-    }
-
-    /**
-     * Sorts persons in this address book by appointment dates.
-     */
-    public void sortPersonsByAppointment() {
-        Comparator<Person> appointmentComparator = Comparator.comparing(
-                Person::getEarliestAppointment
-        );
-
-        persons.sort(appointmentComparator);
-    }
-
     //// util methods
 
     @Override
@@ -2,12 +2,18 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FuzzyMatchPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticMatchPredicate;
+import seedu.address.model.person.TagExpression;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagCategory;
 
 /**
  * Represents an ArchivedBook that stores archived contacts.
@@ -43,9 +49,14 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
 
     /**
      * Resets the existing data of this {@code ArchivedBook} with {@code newData}.
+     * Data copied from another {@code ArchivedBook} is already unique and is not validated again.
      */
     public void resetData(ReadOnlyArchivedBook newData) {
         requireNonNull(newData);
+        if (newData instanceof ArchivedBook otherArchivedBook) {
+            archivedPersons.setPersons(otherArchivedBook.archivedPersons);
+            return;
+        }
         setPersons(newData.getArchivedContactList());
     }
 
@@ -57,6 +68,14 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
         archivedPersons.add(person);
     }
 
+    /**
+     * Inserts a person into the archived contacts list at {@code index}.
+     */
+    public void addArchivedPerson(int index, Person person) {
+        requireNonNull(person);
+        archivedPersons.add(index, person);
+    }
+
     /**
      * Removes {@code key} from this {@code ArchivedBook}.
      * {@code key} must exist in the archived book.
@@ -74,6 +93,95 @@ public class ArchivedBook implements ReadOnlyArchivedBook {
         return archivedPersons.contains(person);
     }
 
+    /**
+     * Returns the position of the person equal to {@code person} in the archived book, or -1 if there is none.
+     */
+    public int indexOfPerson(Person person) {
+        return archivedPersons.indexOf(person);
+    }
+
+    /**
+     * Returns the person with patient ID {@code id}, if they are in the archived book.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return archivedPersons.getPersonById(id);
+    }
+
+    /**
+     * Returns {@code person} if they would keep their patient ID when archived, or else a copy of them with the
+     * new ID they would be given.
+     */
+    public Person assignId(Person person) {
+        return archivedPersons.assignId(person);
+    }
+
+    /**
+     * Ensures that no patient ID up to {@code id} is given to a person archived later.
+     */
+    public void reserveIdsUpTo(long id) {
+        archivedPersons.reserveIdsUpTo(id);
+    }
+
+    /**
+     * Returns the highest patient ID held or reserved by the archived book so far.
+     */
+    public long getLastId() {
+        return archivedPersons.getLastId();
+    }
+
+    /**
+     * Returns a number that changes whenever an archived person is added, replaced or removed.
+     */
+    @Override
+    public long getVersion() {
+        return archivedPersons.getVersion();
+    }
+
+    /**
+     * Returns the archived persons matched by {@code expression}, in no particular order.
+     */
+    public List<Person> getPersonsMatching(TagExpression expression) {
+        return archivedPersons.getPersonsMatching(expression);
+    }
+
+    /**
+     * Returns the archived persons matched by {@code predicate}, in no particular order.
+     */
+    public List<Person> getPersonsMatching(FuzzyMatchPredicate predicate) {
+        return archivedPersons.getPersonsMatching(predicate);
+    }
+
+    /**
+     * Returns the archived persons matched by {@code predicate}, in no particular order.
+     */
+    public List<Person> getPersonsMatching(PhoneticMatchPredicate predicate) {
+        return archivedPersons.getPersonsMatching(predicate);
+    }
+
+    /**
+     * Returns the archived persons with any of {@code keywords} as a full word of their name, email or phone,
+     * ignoring case, in no particular order.
+     */
+    public List<Person> getPersonsWithAnyKeyword(Collection<String> keywords) {
+        return archivedPersons.getPersonsWithAnyKeyword(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} of the words of the archived persons' names, emails and phones that start with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getWordsStartingWith(String prefix, int limit) {
+        return archivedPersons.getWordsStartingWith(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} of the archived persons' tag names in {@code category}, or in any category if
+     * {@code category} is null, that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getTagNamesStartingWith(TagCategory category, String prefix, int limit) {
+        return archivedPersons.getTagNamesStartingWith(category, prefix, limit);
+    }
+
     @Override
     public ObservableList<Person> getArchivedContactList() {
         return archivedPersons.asUnmodifiableObservableList();
@@ -0,0 +1,258 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of a list that match a filter, answered from an index of that list where possible.
+ * When the index can answer the filter's predicate, the matches are the persons found in the index, so that
+ * setting the filter costs time in the number of matches rather than in the size of the list. Those matches are
+ * then kept up to date one person at a time as persons enter and leave the list, and are found again after
+ * changes too broad to track that way. Otherwise, including when every person is shown, the matches are a live
+ * filtered view of the list, which follows every change to the list by itself.
+ * Either way, the matches are in the order of the list.
+ */
+class IndexedFilter {
+
+    private final ObservableList<Person> source;
+    private final ToIntFunction<Person> positionOf;
+    private final Function<Predicate<Person>, List<Person>> index;
+    private final Matches matches = new Matches();
+    private final ObservableList<Person> unmodifiableMatches = FXCollections.unmodifiableObservableList(matches);
+    private final ListChangeListener<Person> liveMatchesListener = matches::forward;
+    private Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
+    /** The live view of the matches, if the predicate is not answered from the index; null otherwise. */
+    private FilteredList<Person> liveMatches;
+    /** The matches found in the index, in the order of the source list, if {@code liveMatches} is null. */
+    private final List<Person> indexedMatches = new ArrayList<>();
+
+    /**
+     * Creates a filter of {@code source} showing every person, which looks up predicates with {@code index}.
+     * {@code index} returns the persons matching a predicate, or null if it cannot answer that predicate, and
+     * {@code positionOf} returns the position of a person in {@code source}, or -1 if they are not in it.
+     */
+    IndexedFilter(ObservableList<Person> source, ToIntFunction<Person> positionOf,
+            Function<Predicate<Person>, List<Person>> index) {
+        this.source = requireNonNull(source);
+        this.positionOf = requireNonNull(positionOf);
+        this.index = requireNonNull(index);
+        showLive(predicate);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons matching the filter, in the order of the source list.
+     */
+    ObservableList<Person> getMatches() {
+        return unmodifiableMatches;
+    }
+
+    /**
+     * Sets the filter to {@code predicate} and finds its matches.
+     */
+    void apply(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        List<Person> shown = new ArrayList<>(matches);
+        List<Person> found = index.apply(predicate);
+        if (liveMatches != null) {
+            liveMatches.removeListener(liveMatchesListener);
+            liveMatches = null;
+        }
+        indexedMatches.clear();
+        if (found == null) {
+            showLive(predicate);
+        } else {
+            indexedMatches.addAll(found);
+            indexedMatches.sort(Comparator.comparingInt(positionOf));
+        }
+        matches.replaceAll(shown);
+    }
+
+    private void showLive(Predicate<Person> predicate) {
+        liveMatches = new FilteredList<>(source, predicate);
+        liveMatches.addListener(liveMatchesListener);
+    }
+
+    /**
+     * Returns true if the current predicate was answered from the index.
+     */
+    boolean isIndexed() {
+        return liveMatches == null;
+    }
+
+    /**
+     * Finds the matches of the current predicate again, after changes too broad to track one person at a time.
+     */
+    void refresh() {
+        apply(predicate);
+    }
+
+    /**
+     * Updates the matches for {@code added} entering the list.
+     * Must be called after the list has changed, as {@code added} is placed by its position in the list.
+     */
+    void trackAdded(Person added) {
+        track(null, -1, added);
+    }
+
+    /**
+     * Updates the matches for {@code removed} leaving the list from {@code position}.
+     * Must be called after the list has changed.
+     */
+    void trackRemoved(Person removed, int position) {
+        track(removed, position, null);
+    }
+
+    /**
+     * Updates the matches for {@code added} taking the place of {@code removed} in the list.
+     * Must be called after the list has changed, as {@code added} is placed by its position in the list.
+     */
+    void trackReplaced(Person removed, Person added) {
+        track(removed, -1, added);
+    }
+
+    /**
+     * Updates the matches for {@code removed} leaving the list and {@code added} entering it, either of which may
+     * be null. {@code removedPosition} is the position {@code removed} left, or -1 if {@code added} took it.
+     * The row of a person in the matches is found by binary search on their positions in the list, so that a
+     * change costs a logarithmic number of position lookups.
+     * Does nothing if the matches are a live view of the list, as they have already followed the change.
+     */
+    private void track(Person removed, int removedPosition, Person added) {
+        if (!isIndexed()) {
+            return;
+        }
+        int addedPosition = added == null ? -1 : positionOf.applyAsInt(added);
+        int position = removedPosition == -1 ? addedPosition : removedPosition;
+        int row = position == -1 ? indexedMatches.size() : rowAt(position, removed);
+        boolean isRemovedMatch = removed != null && row < indexedMatches.size()
+                && indexedMatches.get(row).getId() == removed.getId();
+        boolean isAddedMatch = added != null && predicate.test(added);
+        if (isRemovedMatch && isAddedMatch) {
+            matches.set(row, added);
+        } else if (isRemovedMatch) {
+            matches.remove(row);
+        } else if (isAddedMatch) {
+            matches.add(addedPosition == -1 ? indexedMatches.size() : rowAt(addedPosition, null), added);
+        }
+    }
+
+    /**
+     * Returns the row in the matches of the first match at or after {@code position} in the list.
+     * A match with the patient ID of {@code removed}, which may no longer be in the list, is taken to be at
+     * {@code position}.
+     */
+    private int rowAt(int position, Person removed) {
+        int low = 0;
+        int high = indexedMatches.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Person match = indexedMatches.get(middle);
+            boolean isRemoved = removed != null && match.getId() == removed.getId();
+            if ((isRemoved ? position : positionOf.applyAsInt(match)) < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The matches as one list, which shows either the live view or the matches found in the index and reports
+     * each change to them as a single change.
+     */
+    private class Matches extends ObservableListBase<Person> {
+
+        @Override
+        public Person get(int index) {
+            return liveMatches != null ? liveMatches.get(index) : indexedMatches.get(index);
+        }
+
+        @Override
+        public int size() {
+            return liveMatches != null ? liveMatches.size() : indexedMatches.size();
+        }
+
+        @Override
+        public Person set(int index, Person person) {
+            Person replaced = indexedMatches.set(index, person);
+            beginChange();
+            nextSet(index, replaced);
+            endChange();
+            return replaced;
+        }
+
+        @Override
+        public void add(int index, Person person) {
+            indexedMatches.add(index, person);
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        @Override
+        public Person remove(int index) {
+            Person removed = indexedMatches.remove(index);
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+            return removed;
+        }
+
+        /**
+         * Reports that the matches {@code shown} before have all been replaced by the current matches.
+         */
+        void replaceAll(List<Person> shown) {
+            if (shown.isEmpty() && isEmpty()) {
+                return;
+            }
+            beginChange();
+            nextReplace(0, size(), shown);
+            endChange();
+        }
+
+        /**
+         * Reports the changes {@code change} made to the live view as changes to the matches.
+         */
+        void forward(ListChangeListener.Change<? extends Person> change) {
+            beginChange();
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[to - from];
+                    for (int i = from; i < to; i++) {
+                        permutation[i - from] = change.getPermutation(i);
+                    }
+                    nextPermutation(from, to, permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        nextUpdate(i);
+                    }
+                } else if (change.wasReplaced()) {
+                    nextReplace(from, to, new ArrayList<>(change.getRemoved()));
+                } else if (change.wasRemoved()) {
+                    nextRemove(from, new ArrayList<>(change.getRemoved()));
+                } else {
+                    nextAdd(from, to);
+                }
+            }
+            endChange();
+        }
+    }
+}
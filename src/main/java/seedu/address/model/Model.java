@@ -1,6 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -13,6 +16,7 @@ import seedu.address.model.person.EmergencyPerson;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
 
 /**
  * The API of the Model component.
@@ -102,6 +106,16 @@ public interface Model {
      */
     Optional<Person> findPersonByName(Name name);
 
+    /**
+     * Returns the person in the address book with patient ID {@code id}, if any.
+     */
+    Optional<Person> getPersonById(long id);
+
+    /**
+     * Returns the person in the archived book with patient ID {@code id}, if any.
+     */
+    Optional<Person> getArchivedPersonById(long id);
+
     /**
      * Adds tags to the given person.
      * @param person the person to add tags to
@@ -123,6 +137,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders
+     * the list by {@code comparator}, or by the order chosen with the last sort if {@code comparator} is null.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
     /**
      * Checks if the address book can be undone.
      * @return true if undo is possible, false otherwise.
@@ -135,10 +156,6 @@ public interface Model {
      */
     void undoAddressBook() throws CommandException;
 
-    boolean isLastCommandArchiveRelated();
-
-    void setLastCommandArchiveRelated(boolean isLastCommandArchiveRelated);
-
     /**
      * Checks if the address book can be redone.
      * @return true if redo is possible, false otherwise.
@@ -156,12 +173,39 @@ public interface Model {
      */
     void commitAddressBook();
 
+    /**
+     * Starts a transaction. Until it ends, changes to the address book are not committed as separate
+     * undoable states, and updates to the filtered person list are deferred.
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, committing all of its changes as a single undoable state and applying
+     * the last filter requested during it.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction, reverting all changes made during it.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
     boolean isArchiveMode();
 
     void setArchiveMode(boolean isArchiveMode);
 
     void updateArchivedFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered archived person list to filter by the given {@code predicate}, and
+     * orders the list by {@code comparator}, or in the order of the archived book if {@code comparator} is null.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateArchivedFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
     /**
      * Archives the specified person by adding them to the archive list
      */
@@ -176,15 +220,37 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered archived list */
     ObservableList<Person> getFilteredArchivedPersonList();
 
+    /**
+     * Returns true if an active person has an appointment that clashes with {@code appointment}.
+     */
     boolean hasSchedule(Appointment appointment);
 
     /**
-     * Sorts the person list by name in alphabetical order.
+     * Returns the active persons whose appointments start at or after {@code from} and before {@code to},
+     * in order of appointment time.
+     */
+    List<Person> getPersonsWithAppointmentBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns up to {@code limit} of the words of the names, emails and phones of the persons in the current
+     * mode's list that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    List<String> getWordsStartingWith(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} of the tag names in {@code category}, or in any category if {@code category}
+     * is null, of the persons in the current mode's list that start with {@code prefix}, ignoring case, in
+     * alphabetical order.
+     */
+    List<String> getTagNamesStartingWith(TagCategory category, String prefix, int limit);
+
+    /**
+     * Shows the person list sorted by name in alphabetical order, without changing the address book.
      */
     void sortPersonListByName();
 
     /**
-     * Sorts the person list by appointment date with earliest first.
+     * Shows the person list sorted by appointment date with earliest first, without changing the address book.
      */
     void sortPersonListByAppointment();
 
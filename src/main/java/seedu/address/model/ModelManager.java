@@ -4,23 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Appointment;
+import seedu.address.model.person.AppointmentInRangePredicate;
 import seedu.address.model.person.EmergencyPerson;
+import seedu.address.model.person.FuzzyMatchPredicate;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticMatchPredicate;
+import seedu.address.model.person.TagExpression;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,13 +36,19 @@ import seedu.address.model.tag.Tag;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private boolean isArchiveMode = false;
-    private boolean isLastCommandArchiveRelated = false;
-    private final AddressBook addressBook;
+    private boolean isInTransaction = false;
+    private Predicate<Person> deferredPredicate;
+    private Comparator<Person> deferredComparator;
+    private Comparator<Person> queryComparator;
     private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
     private final ArchivedBook archivedBook;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Person> filteredArchivedPersons;
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Person> sortedArchivedPersons;
+    private final IndexedFilter personFilter;
+    private final IndexedFilter archivedPersonFilter;
+    private final SearchCache activeSearchCache = new SearchCache("active", SearchCache.DEFAULT_CAPACITY);
+    private final SearchCache archivedSearchCache = new SearchCache("archived", SearchCache.DEFAULT_CAPACITY);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -47,13 +61,22 @@ public class ModelManager implements Model {
                 + ", archived book: " + archivedBook
                 + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
-        this.versionedAddressBook = new VersionedAddressBook(addressBook);
+        this.versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoDepth(),
+                VersionedAddressBook.DEFAULT_MAX_RETAINED_PERSONS);
         this.userPrefs = new UserPrefs(userPrefs);
         this.archivedBook = new ArchivedBook(archivedBook);
+        // persons added later must not take the patient ID of an archived person, who may be unarchived
+        this.versionedAddressBook.reserveIdsUpTo(this.archivedBook.getLastId());
 
-        this.filteredPersons = new FilteredList<>(this.versionedAddressBook.getPersonList());
-        this.filteredArchivedPersons = new FilteredList<>(this.archivedBook.getArchivedContactList());
+        this.personFilter = new IndexedFilter(versionedAddressBook.getPersonList(),
+                versionedAddressBook::indexOfPerson, predicate -> activeSearchCache.get(predicate,
+                        versionedAddressBook.getVersion(), this::findIndexedMatches));
+        this.archivedPersonFilter = new IndexedFilter(this.archivedBook.getArchivedContactList(),
+                this.archivedBook::indexOfPerson, predicate -> archivedSearchCache.get(predicate,
+                        this.archivedBook.getVersion(), this::findIndexedArchivedMatches));
+        this.sortedPersons = new SortedList<>(personFilter.getMatches(),
+                this.userPrefs.getPersonOrder().getComparator());
+        this.sortedArchivedPersons = new SortedList<>(archivedPersonFilter.getMatches());
     }
 
     public ModelManager() {
@@ -67,6 +90,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        sortedPersons.setComparator(getDisplayComparator());
     }
 
     @Override
@@ -101,12 +125,50 @@ public class ModelManager implements Model {
 
     @Override
     public void commitAddressBook() {
+        if (!isInTransaction) {
+            versionedAddressBook.commit();
+        }
+    }
+
+    @Override
+    public void beginTransaction() {
+        if (isInTransaction) {
+            throw new IllegalStateException("A transaction is already in progress.");
+        }
+        isInTransaction = true;
+    }
+
+    @Override
+    public void commitTransaction() {
+        endTransaction();
         versionedAddressBook.commit();
+        if (deferredPredicate != null) {
+            applyFilter(deferredPredicate, deferredComparator);
+            deferredPredicate = null;
+            deferredComparator = null;
+        }
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        endTransaction();
+        versionedAddressBook.rollback();
+        refreshIndexedFilters();
+        deferredPredicate = null;
+        deferredComparator = null;
+    }
+
+    private void endTransaction() {
+        if (!isInTransaction) {
+            throw new IllegalStateException("No transaction is in progress.");
+        }
+        isInTransaction = false;
     }
 
     @Override
     public void undoAddressBook() throws CommandException {
         versionedAddressBook.undo();
+        refreshIndexedFilters();
     }
 
     @Override
@@ -117,6 +179,7 @@ public class ModelManager implements Model {
     @Override
     public void redoAddressBook() throws CommandException {
         versionedAddressBook.redo();
+        refreshIndexedFilters();
     }
 
     @Override
@@ -124,20 +187,13 @@ public class ModelManager implements Model {
         return versionedAddressBook.canRedo();
     }
 
-    public boolean isLastCommandArchiveRelated() {
-        return isLastCommandArchiveRelated;
-    }
-
-    public void setLastCommandArchiveRelated(boolean isLastCommandArchiveRelated) {
-        this.isLastCommandArchiveRelated = isLastCommandArchiveRelated;
-    }
-
     // =========== AddressBook Methods
     // ========================================================================
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         versionedAddressBook.resetData(addressBook);
+        refreshIndexedFilters();
         commitAddressBook();
     }
 
@@ -159,33 +215,52 @@ public class ModelManager implements Model {
 
     @Override
     public boolean hasConflictingPerson(Person edited, Person original) {
-        return versionedAddressBook.getPersonList().stream()
-                .filter(p -> !p.equals(original))
-                .anyMatch(p -> p.getName().equals(edited.getName())
-                        && (p.getPhone().equals(edited.getPhone()) || p.getEmail().equals(edited.getEmail())));
+        requireAllNonNull(edited, original);
+        return versionedAddressBook.hasConflictingPerson(edited, original);
     }
 
     @Override
     public void deletePerson(Person target) {
-        versionedAddressBook.removePerson(target);
+        int position = indexOfStoredPerson(target);
+        Person removed = versionedAddressBook.getPersonList().get(position);
+        versionedAddressBook.removePerson(removed);
+        personFilter.trackRemoved(removed, position);
         commitAddressBook();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void addPerson(Person person) {
-        versionedAddressBook.addPerson(person);
+        Person added = versionedAddressBook.assignId(person);
+        versionedAddressBook.addPerson(added);
+        personFilter.trackAdded(added);
         commitAddressBook();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        versionedAddressBook.setPerson(target, editedPerson);
+        int position = indexOfStoredPerson(target);
+        Person replaced = versionedAddressBook.getPersonList().get(position);
+        versionedAddressBook.setPerson(replaced, editedPerson);
+        personFilter.trackReplaced(replaced, versionedAddressBook.getPersonList().get(position));
         commitAddressBook();
     }
 
+    /**
+     * Returns the position of the person equal to {@code person} in the address book.
+     * The filters are told about the person stored there, who carries the patient ID the book gave them.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private int indexOfStoredPerson(Person person) {
+        requireNonNull(person);
+        int position = versionedAddressBook.indexOfPerson(person);
+        if (position == -1) {
+            throw new PersonNotFoundException();
+        }
+        return position;
+    }
+
     @Override
     public void addEmergencyContactToPerson(Person person, EmergencyPerson emergencyPerson) {
         requireAllNonNull(person, emergencyPerson);
@@ -203,23 +278,57 @@ public class ModelManager implements Model {
 
     @Override
     public void archivePerson(Person person) {
-        requireNonNull(person);
-        archivedBook.addArchivedPerson(person);
-        versionedAddressBook.removePerson(person);
-        commitAddressBook();
+        int position = indexOfStoredPerson(person);
+        Person removed = versionedAddressBook.getPersonList().get(position);
+        Person archived = archivedBook.assignId(removed);
+        runInTransaction(() -> {
+            archivedBook.addArchivedPerson(archived);
+            archivedPersonFilter.trackAdded(archived);
+            versionedAddressBook.recordChange(() -> archivedBook.unarchivePerson(archived),
+                    () -> archivedBook.addArchivedPerson(archived));
+            versionedAddressBook.removePerson(removed);
+            personFilter.trackRemoved(removed, position);
+        });
     }
 
     @Override
     public void unarchivePerson(Person person) {
         requireNonNull(person);
 
-        if (!archivedBook.hasPerson(person)) {
+        int archivedIndex = archivedBook.indexOfPerson(person);
+        if (archivedIndex == -1) {
             throw new PersonNotFoundException();
         }
+        Person archived = archivedBook.getArchivedContactList().get(archivedIndex);
+        Person unarchived = versionedAddressBook.assignId(archived);
+        runInTransaction(() -> {
+            archivedBook.unarchivePerson(archived);
+            archivedPersonFilter.trackRemoved(archived, archivedIndex);
+            versionedAddressBook.recordChange(() -> archivedBook.addArchivedPerson(archivedIndex, archived),
+                    () -> archivedBook.unarchivePerson(archived));
+            versionedAddressBook.addPerson(unarchived);
+            personFilter.trackAdded(unarchived);
+        });
+    }
 
-        archivedBook.unarchivePerson(person);
-        versionedAddressBook.addPerson(person);
-        commitAddressBook();
+    /**
+     * Makes the changes in {@code changes} as one undoable step, undoing those already made if one of them fails.
+     * Joins the transaction in progress if there is one, leaving it to its owner to commit or roll back.
+     */
+    private void runInTransaction(Runnable changes) {
+        if (isInTransaction) {
+            changes.run();
+            return;
+        }
+
+        beginTransaction();
+        try {
+            changes.run();
+        } catch (RuntimeException e) {
+            rollbackTransaction();
+            throw e;
+        }
+        commitTransaction();
     }
 
     // =========== Tag Command Methods
@@ -233,20 +342,28 @@ public class ModelManager implements Model {
                 .findFirst();
     }
 
+    @Override
+    public Optional<Person> getPersonById(long id) {
+        return versionedAddressBook.getPersonById(id);
+    }
+
+    @Override
+    public Optional<Person> getArchivedPersonById(long id) {
+        return archivedBook.getPersonById(id);
+    }
+
     @Override
     public Person addTagsToPerson(Person person, Set<Tag> allergies, Set<Tag> conditions,
                                   Set<Tag> insurances) {
         requireAllNonNull(person);
 
-        Set<Tag> currentAllergies = new HashSet<>(person.getAllergyTags());
-        currentAllergies.addAll(allergies);
-        Set<Tag> currentConditions = new HashSet<>(person.getConditionTags());
-        currentConditions.addAll(conditions);
-        Set<Tag> currentInsurances = new HashSet<>(person.getInsuranceTags());
-        currentInsurances.addAll(insurances);
+        Set<Tag> currentAllergies = person.getAllergyTags().union(allergies);
+        Set<Tag> currentConditions = person.getConditionTags().union(conditions);
+        Set<Tag> currentInsurances = person.getInsuranceTags().union(insurances);
 
         // Create a new person with the updated tags
         Person updatedPerson = new Person(
+                person.getId(),
                 person.getName(),
                 person.getPhone(),
                 person.getEmail(),
@@ -267,17 +384,14 @@ public class ModelManager implements Model {
     public Person deleteTagFromPerson(Person person, Set<Tag> tagsToDelete) {
         requireAllNonNull(person, tagsToDelete);
 
-        Set<Tag> currentAllergies = new HashSet<>(person.getAllergyTags());
-        Set<Tag> currentConditions = new HashSet<>(person.getConditionTags());
-        Set<Tag> currentInsurances = new HashSet<>(person.getInsuranceTags());
-
         // Remove the tags to delete
-        currentAllergies.removeAll(tagsToDelete);
-        currentConditions.removeAll(tagsToDelete);
-        currentInsurances.removeAll(tagsToDelete);
+        Set<Tag> currentAllergies = person.getAllergyTags().difference(tagsToDelete);
+        Set<Tag> currentConditions = person.getConditionTags().difference(tagsToDelete);
+        Set<Tag> currentInsurances = person.getInsuranceTags().difference(tagsToDelete);
 
         // Create a new person with the updated tags
         Person updatedPerson = new Person(
+                person.getId(),
                 person.getName(),
                 person.getPhone(),
                 person.getEmail(),
@@ -304,24 +418,104 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public ObservableList<Person> getFilteredArchivedPersonList() {
-        return filteredArchivedPersons;
+        return sortedArchivedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
+        updateFilteredPersonList(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (isInTransaction) {
+            deferredPredicate = predicate;
+            deferredComparator = comparator;
+            return;
+        }
+        applyFilter(predicate, comparator);
+    }
+
+    private void applyFilter(Predicate<Person> predicate, Comparator<Person> comparator) {
+        personFilter.apply(predicate);
+        queryComparator = comparator;
+        sortedPersons.setComparator(getDisplayComparator());
+    }
+
+    /**
+     * Returns the order the filtered person list is shown in: the order of the current search results if they
+     * have one, or else the order chosen with the last sort.
+     */
+    private Comparator<Person> getDisplayComparator() {
+        return queryComparator != null ? queryComparator : userPrefs.getPersonOrder().getComparator();
+    }
+
+    /**
+     * Returns the persons of the address book matching {@code predicate}, looked up in one of its indexes, or
+     * null if {@code predicate} cannot be answered from an index.
+     */
+    private List<Person> findIndexedMatches(Predicate<Person> predicate) {
+        if (predicate instanceof AppointmentInRangePredicate appointmentInRange) {
+            return versionedAddressBook.getPersonsWithAppointmentBetween(
+                    appointmentInRange.getFrom(), appointmentInRange.getTo());
+        } else if (predicate instanceof TagExpression tagExpression) {
+            return versionedAddressBook.getPersonsMatching(tagExpression);
+        } else if (predicate instanceof NameContainsKeywordsPredicate nameContainsKeywords) {
+            return versionedAddressBook.getPersonsWithAnyKeyword(nameContainsKeywords.getKeywords());
+        } else if (predicate instanceof FuzzyMatchPredicate fuzzyMatch) {
+            return versionedAddressBook.getPersonsMatching(fuzzyMatch);
+        } else if (predicate instanceof PhoneticMatchPredicate phoneticMatch) {
+            return versionedAddressBook.getPersonsMatching(phoneticMatch);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the persons of the archived book matching {@code predicate}, looked up in one of its indexes, or
+     * null if {@code predicate} cannot be answered from an index.
+     */
+    private List<Person> findIndexedArchivedMatches(Predicate<Person> predicate) {
+        if (predicate instanceof TagExpression tagExpression) {
+            return archivedBook.getPersonsMatching(tagExpression);
+        } else if (predicate instanceof NameContainsKeywordsPredicate nameContainsKeywords) {
+            return archivedBook.getPersonsWithAnyKeyword(nameContainsKeywords.getKeywords());
+        } else if (predicate instanceof FuzzyMatchPredicate fuzzyMatch) {
+            return archivedBook.getPersonsMatching(fuzzyMatch);
+        } else if (predicate instanceof PhoneticMatchPredicate phoneticMatch) {
+            return archivedBook.getPersonsMatching(phoneticMatch);
+        }
+        return null;
+    }
+
+    /**
+     * Finds the index-answered matches of the current filters again, after changes too broad to track one person
+     * at a time. Filters that are live views of their list have already followed the changes.
+     */
+    private void refreshIndexedFilters() {
+        if (personFilter.isIndexed()) {
+            personFilter.refresh();
+        }
+        if (archivedPersonFilter.isIndexed()) {
+            archivedPersonFilter.refresh();
+        }
     }
 
     @Override
     public void updateArchivedFilteredPersonList(Predicate<Person> predicate) {
+        updateArchivedFilteredPersonList(predicate, null);
+    }
+
+    @Override
+    public void updateArchivedFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
         requireNonNull(predicate);
-        filteredArchivedPersons.setPredicate(predicate);
+        archivedPersonFilter.apply(predicate);
+        sortedArchivedPersons.setComparator(comparator);
     }
 
     @Override
@@ -337,9 +531,9 @@ public class ModelManager implements Model {
 
         return versionedAddressBook.equals(otherModelManager.versionedAddressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && archivedBook.equals(otherModelManager.archivedBook)
-                && filteredArchivedPersons.equals(otherModelManager.filteredArchivedPersons);
+                && sortedArchivedPersons.equals(otherModelManager.sortedArchivedPersons);
     }
 
     // =========== Schedule method
@@ -348,21 +542,47 @@ public class ModelManager implements Model {
     @Override
     public boolean hasSchedule(Appointment appointment) {
         requireNonNull(appointment);
-        return versionedAddressBook.getPersonList().stream()
-                .anyMatch(person -> person.getAppointment().equals(appointment));
+        return versionedAddressBook.hasClashingAppointment(appointment);
+    }
+
+    @Override
+    public List<Person> getPersonsWithAppointmentBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return versionedAddressBook.getPersonsWithAppointmentBetween(from, to);
+    }
+
+    @Override
+    public List<String> getWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return isArchiveMode
+                ? archivedBook.getWordsStartingWith(prefix, limit)
+                : versionedAddressBook.getWordsStartingWith(prefix, limit);
+    }
+
+    @Override
+    public List<String> getTagNamesStartingWith(TagCategory category, String prefix, int limit) {
+        requireNonNull(prefix);
+        return isArchiveMode
+                ? archivedBook.getTagNamesStartingWith(category, prefix, limit)
+                : versionedAddressBook.getTagNamesStartingWith(category, prefix, limit);
     }
 
     @Override
     public void sortPersonListByName() {
-        versionedAddressBook.sortPersonsByName();
-        commitAddressBook();
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        setPersonOrder(PersonOrder.NAME);
     }
 
     @Override
     public void sortPersonListByAppointment() {
-        versionedAddressBook.sortPersonsByAppointment();
-        commitAddressBook();
+        setPersonOrder(PersonOrder.APPOINTMENT);
+    }
+
+    /**
+     * Shows all persons in {@code order}, which is kept in the user prefs for the next session.
+     * The address book itself stays in the order the persons were added, so it is neither changed nor saved.
+     */
+    private void setPersonOrder(PersonOrder order) {
+        userPrefs.setPersonOrder(order);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -0,0 +1,138 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable snapshot of a list of persons that shares storage with the snapshot it was taken after.
+ * The persons are held in chunks of at most {@code CHUNK_SIZE}. The chunks of the previous snapshot that still
+ * hold the same persons at the start and at the end of the list are reused rather than copied, even if persons
+ * inserted or removed between them have moved the later ones. Only the persons between those reused chunks are
+ * copied, so a single edit, insertion or removal allocates at most two chunks, no matter how many persons the
+ * list holds or where the change is.
+ */
+class PersonListSnapshot {
+
+    static final int CHUNK_SIZE = 32;
+
+    private final Person[][] chunks;
+    /** The position in the list of the first person of each chunk. */
+    private final int[] starts;
+    private final int size;
+    private final int sharedSlots;
+
+    private PersonListSnapshot(List<Person[]> chunks, int size, int sharedSlots) {
+        this.chunks = chunks.toArray(new Person[0][]);
+        this.starts = new int[this.chunks.length];
+        for (int i = 1; i < this.chunks.length; i++) {
+            starts[i] = starts[i - 1] + this.chunks[i - 1].length;
+        }
+        this.size = size;
+        this.sharedSlots = sharedSlots;
+    }
+
+    /**
+     * Takes a snapshot of {@code persons}, reusing the chunks of {@code previous} that are unchanged at the start
+     * and at the end of the list.
+     *
+     * @param previous the snapshot taken before this one, or null if there is none.
+     */
+    static PersonListSnapshot of(List<Person> persons, PersonListSnapshot previous) {
+        requireNonNull(persons);
+        int size = persons.size();
+        int prefixChunks = 0;
+        int suffixChunk = 0;
+        int copiedFrom = 0;
+        int copiedTo = size;
+        if (previous != null) {
+            while (prefixChunks < previous.chunks.length
+                    && previous.isChunkAt(prefixChunks, persons, previous.starts[prefixChunks])) {
+                prefixChunks++;
+            }
+            copiedFrom = prefixChunks == 0 ? 0 : previous.endOf(prefixChunks - 1);
+            // the persons after the change have moved by the number of persons it inserted or removed
+            int shift = size - previous.size;
+            suffixChunk = previous.chunks.length;
+            while (suffixChunk > prefixChunks && previous.starts[suffixChunk - 1] + shift >= copiedFrom
+                    && previous.isChunkAt(suffixChunk - 1, persons, previous.starts[suffixChunk - 1] + shift)) {
+                suffixChunk--;
+            }
+            copiedTo = suffixChunk == previous.chunks.length ? size : previous.starts[suffixChunk] + shift;
+        }
+
+        List<Person[]> chunks = new ArrayList<>(size / CHUNK_SIZE + 2);
+        for (int i = 0; i < prefixChunks; i++) {
+            chunks.add(previous.chunks[i]);
+        }
+        for (int from = copiedFrom; from < copiedTo; from += CHUNK_SIZE) {
+            chunks.add(persons.subList(from, Math.min(from + CHUNK_SIZE, copiedTo)).toArray(new Person[0]));
+        }
+        for (int i = suffixChunk; previous != null && i < previous.chunks.length; i++) {
+            chunks.add(previous.chunks[i]);
+        }
+        return new PersonListSnapshot(chunks, size, size - (copiedTo - copiedFrom));
+    }
+
+    /**
+     * Returns true if the chunk at {@code chunkIndex} holds exactly the same person instances as
+     * {@code persons} from {@code position}.
+     */
+    private boolean isChunkAt(int chunkIndex, List<Person> persons, int position) {
+        Person[] chunk = chunks[chunkIndex];
+        if (position + chunk.length > persons.size()) {
+            return false;
+        }
+        for (int i = 0; i < chunk.length; i++) {
+            if (chunk[i] != persons.get(position + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int endOf(int chunkIndex) {
+        return starts[chunkIndex] + chunks[chunkIndex].length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of person slots reused from the snapshot this one was taken after.
+     */
+    int getSharedSlots() {
+        return sharedSlots;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in this snapshot.
+     */
+    List<Person> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                int chunkIndex = Arrays.binarySearch(starts, index);
+                if (chunkIndex < 0) {
+                    // not the first person of a chunk, so in the chunk starting before it
+                    chunkIndex = -chunkIndex - 2;
+                }
+                return chunks[chunkIndex][index - starts[chunkIndex]];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
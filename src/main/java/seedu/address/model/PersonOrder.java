@@ -0,0 +1,32 @@
+package seedu.address.model;
+
+import java.util.Comparator;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The order the person list is shown in. The address book itself always keeps its persons in the order they were
+ * added; the shown list is a sorted view of it, which places persons added or edited later where the order puts
+ * them.
+ * The comparators compare the keys {@code Name} and {@code Appointment} precompute, so sorting the view neither
+ * collates names nor converts dates on each comparison.
+ */
+public enum PersonOrder {
+    /** Persons are kept in the order they were added. */
+    NONE(null),
+    NAME(Comparator.comparing(person -> person.getName().getSortKey())),
+    APPOINTMENT(Comparator.comparingLong(person -> person.getAppointment().getSortKey()));
+
+    private final Comparator<Person> comparator;
+
+    PersonOrder(Comparator<Person> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the comparator that defines this order, or null for {@code NONE}.
+     */
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+}
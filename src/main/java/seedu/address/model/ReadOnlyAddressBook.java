@@ -14,4 +14,9 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes whenever a person is added, replaced or removed.
+     */
+    long getVersion();
+
 }
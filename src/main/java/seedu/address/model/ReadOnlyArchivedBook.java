@@ -11,4 +11,9 @@ public interface ReadOnlyArchivedBook {
      * Returns an unmodifiable list of archived contacts.
      */
     ObservableList<Person> getArchivedContactList();
+
+    /**
+     * Returns a number that changes whenever an archived contact is added, replaced or removed.
+     */
+    long getVersion();
 }
@@ -13,4 +13,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    int getUndoDepth();
+
+    PersonOrder getPersonOrder();
+
+    /**
+     * Returns the longest time, in milliseconds, a change may wait before it is saved. 0 saves every change as
+     * soon as it is made.
+     */
+    int getSaveDelay();
+
 }
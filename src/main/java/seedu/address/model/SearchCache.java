@@ -0,0 +1,117 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * A bounded cache of the persons matching recent searches of one list of persons, evicting the least recently
+ * used search when full.
+ * Each result is stored with the version of the list it was computed from, and is discarded when looked up
+ * after the list has changed.
+ * Every {@code SUMMARY_INTERVAL} lookups, the hits and misses so far are logged at INFO level, so that the hit
+ * rate can be read from the app's log.
+ */
+class SearchCache {
+    public static final int DEFAULT_CAPACITY = 32;
+    public static final int SUMMARY_INTERVAL = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(SearchCache.class);
+
+    private final String listName;
+    private final Map<Predicate<Person>, Result> results;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates an empty cache holding up to {@code capacity} searches of the list named {@code listName}.
+     */
+    SearchCache(String listName, int capacity) {
+        requireNonNull(listName);
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.listName = listName;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, Result> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} in version {@code version} of the list, computing them with
+     * {@code search} if they are not cached. {@code search} returns null for predicates it cannot answer, and
+     * those are neither cached nor counted.
+     */
+    List<Person> get(Predicate<Person> predicate, long version, Function<Predicate<Person>, List<Person>> search) {
+        requireNonNull(predicate);
+        Predicate<Person> key = normalize(predicate);
+        Result cached = results.get(key);
+        if (cached != null && cached.version() == version) {
+            hits++;
+            logger.fine(() -> String.format("Search cache hit in %s list (hits: %d, misses: %d)",
+                    listName, hits, misses));
+            logSummaryIfDue();
+            return cached.persons();
+        }
+
+        List<Person> persons = search.apply(key);
+        if (persons == null) {
+            return null;
+        }
+        misses++;
+        logger.fine(() -> String.format("Search cache miss in %s list (hits: %d, misses: %d)",
+                listName, hits, misses));
+        logSummaryIfDue();
+        List<Person> unmodifiablePersons = List.copyOf(persons);
+        results.put(key, new Result(version, unmodifiablePersons));
+        return unmodifiablePersons;
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the hits, misses and hit rate of the lookups so far.
+     */
+    String getSummary() {
+        long lookups = hits + misses;
+        long hitRate = lookups == 0 ? 0 : Math.round(100.0 * hits / lookups);
+        return String.format("Search cache of %s list (hits: %d, misses: %d, hit rate: %d%%)",
+                listName, hits, misses, hitRate);
+    }
+
+    private void logSummaryIfDue() {
+        if ((hits + misses) % SUMMARY_INTERVAL == 0) {
+            logger.info(getSummary());
+        }
+    }
+
+    /**
+     * Returns a predicate equal to every predicate matching the same persons as {@code predicate}, where such
+     * predicates are known.
+     */
+    private static Predicate<Person> normalize(Predicate<Person> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate nameContainsKeywords) {
+            return nameContainsKeywords.normalized();
+        }
+        return predicate;
+    }
+
+    private record Result(long version, List<Person> persons) {}
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,9 +14,15 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** How long, in milliseconds, changes are held back by default so that a burst of them is saved at once. */
+    public static final int DEFAULT_SAVE_DELAY = 500;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path archivedBookFilePath = Paths.get("data" , "archivedbook.json");
+    private int undoDepth = VersionedAddressBook.DEFAULT_MAX_UNDO_DEPTH;
+    private PersonOrder personOrder = PersonOrder.NONE;
+    private int saveDelay = DEFAULT_SAVE_DELAY;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +44,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoDepth(newUserPrefs.getUndoDepth());
+        setPersonOrder(newUserPrefs.getPersonOrder());
+        setSaveDelay(newUserPrefs.getSaveDelay());
     }
 
     public GuiSettings getGuiSettings() {
@@ -61,6 +71,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoDepth() {
+        return undoDepth;
+    }
+
+    public void setUndoDepth(int undoDepth) {
+        checkArgument(undoDepth >= 0, "Undo depth must not be negative");
+        this.undoDepth = undoDepth;
+    }
+
+    public PersonOrder getPersonOrder() {
+        return personOrder;
+    }
+
+    public void setPersonOrder(PersonOrder personOrder) {
+        requireNonNull(personOrder);
+        this.personOrder = personOrder;
+    }
+
+    public int getSaveDelay() {
+        return saveDelay;
+    }
+
+    public void setSaveDelay(int saveDelay) {
+        checkArgument(saveDelay >= 0, "Save delay must not be negative");
+        this.saveDelay = saveDelay;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -74,12 +111,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoDepth == otherUserPrefs.undoDepth
+                && personOrder == otherUserPrefs.personOrder
+                && saveDelay == otherUserPrefs.saveDelay;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoDepth, personOrder, saveDelay);
     }
 
     @Override
@@ -1,59 +1,170 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
 
 /**
  * Wraps an AddressBook with undo/redo functionality.
- * Maintains a history of address book states to support undo operations.
+ * Every mutation records its own inverse in a journal, and each commit closes the changes made since the
+ * previous commit into one undoable step. Undo and redo replay those changes instead of restoring a copy of
+ * the whole address book, so a single-person command costs a single-person change to reverse.
+ * Changes to other data, such as the archived book, can be recorded into the same step with
+ * {@link #recordChange(Runnable, Runnable)}.
+ * The history is bounded both by the number of undoable steps and by the number of persons it retains.
  */
 public class VersionedAddressBook extends AddressBook {
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    public static final int DEFAULT_MAX_UNDO_DEPTH = 200;
+    public static final int DEFAULT_MAX_RETAINED_PERSONS = 1_000_000;
+
+    private final List<List<Change>> committedSteps = new ArrayList<>();
+    private final List<Change> pendingChanges = new ArrayList<>();
+    private final int maxUndoDepth;
+    private final int maxRetainedPersons;
     private int currentStatePointer;
+    private int retainedPersons;
+    private boolean isRecording;
 
     /**
-     * Constructs a {@code VersionedAddressBook} with the given initial state.
-     * Initializes the state history with the provided {@code initialState} and
-     * sets the current state pointer to the first (and only) state.
+     * Constructs a {@code VersionedAddressBook} with the given initial state and an empty history.
      *
      * @param initialState The initial state of the address book.
      */
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
-        currentStatePointer = 0;
+        this(initialState, DEFAULT_MAX_UNDO_DEPTH, DEFAULT_MAX_RETAINED_PERSONS);
+    }
+
+    /**
+     * Constructs a {@code VersionedAddressBook} with the given initial state and history bounds.
+     *
+     * @param initialState The initial state of the address book.
+     * @param maxUndoDepth The maximum number of consecutive undos supported.
+     * @param maxRetainedPersons The maximum number of persons the history may hold before the oldest
+     *                           steps are discarded.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxUndoDepth, int maxRetainedPersons) {
+        checkArgument(maxUndoDepth >= 0, "Undo depth must not be negative");
+        checkArgument(maxRetainedPersons >= 0, "History size must not be negative");
+        resetData(initialState);
+        this.maxUndoDepth = maxUndoDepth;
+        this.maxRetainedPersons = maxRetainedPersons;
+        isRecording = true;
+    }
+
+    //// journaled operations
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        recordReplacement(() -> super.setPersons(persons));
+    }
+
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        recordReplacement(() -> super.resetData(newData));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        requireNonNull(p);
+        // redoing must add the person with the patient ID they were given, not a new one
+        Person added = assignId(p);
+        super.addPerson(added);
+        record(new Change(() -> super.removePerson(added), () -> super.addPerson(added), 1));
+    }
+
+    @Override
+    public void addPerson(int index, Person p) {
+        requireNonNull(p);
+        Person added = assignId(p);
+        super.addPerson(index, added);
+        record(new Change(() -> super.removePerson(added), () -> super.addPerson(index, added), 1));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        int index = indexOfPerson(target);
+        Person replaced = index == -1 ? target : getPersonList().get(index);
+        super.setPerson(target, editedPerson);
+        Person replacement = getPersonList().get(index);
+        record(new Change(() -> super.setPerson(replacement, replaced),
+                () -> super.setPerson(replaced, replacement), 2));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        requireNonNull(key);
+        int index = indexOfPerson(key);
+        Person removed = index == -1 ? key : getPersonList().get(index);
+        super.removePerson(key);
+        record(new Change(() -> super.addPerson(index, removed), () -> super.removePerson(removed), 1));
     }
 
     /**
-     * Saves a copy of the current address book state.
-     * Adds the current state to the history and removes any forward states.
+     * Records a change made outside this address book as part of the current step, so that undoing or redoing
+     * the step also undoes or redoes that change.
+     *
+     * @param undo Reverts the change.
+     * @param redo Reapplies the change.
+     */
+    public void recordChange(Runnable undo, Runnable redo) {
+        requireAllNonNull(undo, redo);
+        record(new Change(undo, redo, 1));
+    }
+
+    //// history operations
+
+    /**
+     * Closes the changes made since the previous commit into one undoable step.
+     * Removes any steps that were undone before this commit, as they can no longer be redone.
+     * Does nothing if nothing has changed since the previous commit.
      */
     public void commit() {
-        while (currentStatePointer < addressBookStateList.size() - 1) {
-            addressBookStateList.remove(addressBookStateList.size() - 1);
+        if (pendingChanges.isEmpty()) {
+            return;
         }
 
-        addressBookStateList.add(new AddressBook(this));
+        while (currentStatePointer < committedSteps.size()) {
+            retainedPersons -= weightOf(committedSteps.remove(committedSteps.size() - 1));
+        }
+
+        List<Change> step = List.copyOf(pendingChanges);
+        pendingChanges.clear();
+        committedSteps.add(step);
+        retainedPersons += weightOf(step);
         currentStatePointer++;
 
-        while (addressBookStateList.size() > 2) {
-            addressBookStateList.remove(0);
+        while (currentStatePointer > 0
+                && (currentStatePointer > maxUndoDepth || retainedPersons > maxRetainedPersons)) {
+            retainedPersons -= weightOf(committedSteps.remove(0));
             currentStatePointer--;
         }
     }
 
     /**
-     * Restores the previous address book state.
+     * Reverts the changes made since the previous commit.
+     */
+    public void rollback() {
+        replay(() -> undoAll(pendingChanges));
+        pendingChanges.clear();
+    }
+
+    /**
+     * Reverts the most recent step by applying the inverses of its changes in reverse order.
      */
     public void undo() throws CommandException {
         if (!canUndo()) {
             throw new CommandException("Cannot undo");
         }
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        List<Change> step = committedSteps.get(currentStatePointer);
+        replay(() -> undoAll(step));
     }
 
     /**
@@ -65,20 +176,82 @@ public class VersionedAddressBook extends AddressBook {
     }
 
     /**
-     * Restores the next address book state.
+     * Reapplies the most recently undone step.
      */
     public void redo() throws CommandException {
         if (!canRedo()) {
             throw new CommandException("Cannot redo");
         }
+        List<Change> step = committedSteps.get(currentStatePointer);
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        replay(() -> step.forEach(change -> change.redo().run()));
     }
 
     /**
      * Returns true if redo is possible.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < committedSteps.size();
+    }
+
+    /**
+     * Returns the number of persons currently held by the history.
+     * Persons shared between the before and after lists of a bulk change are counted once.
+     */
+    int getRetainedPersons() {
+        return retainedPersons;
+    }
+
+    private void record(Change change) {
+        if (isRecording) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * Runs a change that may rearrange the whole list, recording it as a switch between the lists before
+     * and after. The two lists share the chunks of persons that the change left in place.
+     */
+    private void recordReplacement(Runnable replacement) {
+        if (!isRecording) {
+            replacement.run();
+            return;
+        }
+        PersonListSnapshot before = PersonListSnapshot.of(getPersonList(), null);
+        replay(replacement);
+        PersonListSnapshot after = PersonListSnapshot.of(getPersonList(), before);
+        record(new Change(() -> super.setPersons(before.asList()), () -> super.setPersons(after.asList()),
+                before.size() + after.size() - after.getSharedSlots()));
     }
+
+    /**
+     * Runs {@code changes} without recording them.
+     */
+    private void replay(Runnable changes) {
+        isRecording = false;
+        try {
+            changes.run();
+        } finally {
+            isRecording = true;
+        }
+    }
+
+    /**
+     * Reverts {@code changes} in the reverse of the order they were made.
+     */
+    private static void undoAll(List<Change> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo().run();
+        }
+    }
+
+    private static int weightOf(List<Change> step) {
+        return step.stream().mapToInt(Change::retainedPersons).sum();
+    }
+
+    /**
+     * A recorded change, with the operations that revert and reapply it.
+     * {@code retainedPersons} is the number of persons the change keeps reachable while it is in the history.
+     */
+    private record Change(Runnable undo, Runnable redo, int retainedPersons) {}
 }
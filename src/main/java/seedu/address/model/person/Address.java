@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +19,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> POOL = new Interner<>();
+
     public final String value;
 
     /**
@@ -37,6 +41,13 @@ public class Address {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the shared instance of this address, so that patients living together do not each keep a copy of it.
+     */
+    public Address intern() {
+        return POOL.intern(this);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
@@ -8,6 +9,10 @@ import java.util.Objects;
  */
 public class Appointment implements Comparable<Appointment> {
     public static final String MESSAGE_CONSTRAINTS = "This must be DD-MM-YYYY HH:MM";
+    /** Appointments that start less than this many minutes apart clash with each other. */
+    public static final long CLASH_WINDOW_MINUTES = 15;
+    /** The sort key of an empty appointment, which orders it after every dated one. */
+    public static final long NO_APPOINTMENT_KEY = DateTime.toEpochMinute(LocalDateTime.of(9999, 12, 31, 23, 59)) + 1;
     public final String value;
     private final DateTime dateTime;
     private final String description;
@@ -57,6 +62,13 @@ public class Appointment implements Comparable<Appointment> {
         return dateTime;
     }
 
+    /**
+     * Returns the epoch minute of this appointment, or {@code NO_APPOINTMENT_KEY} if it has no date and time.
+     */
+    public long getSortKey() {
+        return dateTime == null ? NO_APPOINTMENT_KEY : dateTime.toEpochMinute();
+    }
+
     public String getDescription() {
         return description;
     }
@@ -81,7 +93,7 @@ public class Appointment implements Comparable<Appointment> {
         if (dateTime == null || otherAppointment.dateTime == null) {
             return false;
         }
-        return dateTime.difference(otherAppointment.dateTime).abs().toMinutes() < 15.0;
+        return dateTime.difference(otherAppointment.dateTime).abs().toMinutes() < CLASH_WINDOW_MINUTES;
     }
 
     @Override
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s appointment starts at or after a given time and before another.
+ */
+public class AppointmentInRangePredicate implements Predicate<Person> {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a predicate matching appointments that start in [{@code from}, {@code to}).
+     */
+    public AppointmentInRangePredicate(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        DateTime dateTime = person.getAppointment().getDateTime();
+        if (dateTime == null) {
+            return false;
+        }
+        LocalDateTime start = dateTime.getLocalDateTime();
+        return !start.isBefore(from) && start.isBefore(to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentInRangePredicate)) {
+            return false;
+        }
+
+        AppointmentInRangePredicate otherPredicate = (AppointmentInRangePredicate) other;
+        return from.equals(otherPredicate.from) && to.equals(otherPredicate.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
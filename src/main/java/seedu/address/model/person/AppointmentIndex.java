@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A time-ordered index of the persons that have a dated appointment, keyed by the appointment's epoch minute.
+ * Clash checks and range queries visit only the appointments in the requested window instead of every person.
+ */
+class AppointmentIndex {
+
+    private final NavigableMap<Long, List<Person>> byStartMinute = new TreeMap<>();
+    private int size;
+
+    /**
+     * Adds {@code person} to the index if it has a dated appointment.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        DateTime dateTime = person.getAppointment().getDateTime();
+        if (dateTime == null) {
+            return;
+        }
+        byStartMinute.computeIfAbsent(dateTime.toEpochMinute(), unused -> new ArrayList<>(1)).add(person);
+        size++;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        DateTime dateTime = person.getAppointment().getDateTime();
+        if (dateTime == null) {
+            return;
+        }
+        long minute = dateTime.toEpochMinute();
+        List<Person> persons = byStartMinute.get(minute);
+        if (persons != null && persons.remove(person)) {
+            size--;
+            if (persons.isEmpty()) {
+                byStartMinute.remove(minute);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the persons in {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        byStartMinute.clear();
+        size = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if any indexed appointment starts strictly within {@code windowMinutes} of {@code minute}.
+     */
+    boolean hasAppointmentWithin(long minute, long windowMinutes) {
+        return !byStartMinute.subMap(minute - windowMinutes, false, minute + windowMinutes, false).isEmpty();
+    }
+
+    /**
+     * Returns the persons whose appointments start in [{@code fromMinute}, {@code toMinute}), in order of
+     * appointment time.
+     */
+    List<Person> getPersonsBetween(long fromMinute, long toMinute) {
+        List<Person> persons = new ArrayList<>();
+        if (fromMinute < toMinute) {
+            byStartMinute.subMap(fromMinute, true, toMinute, false).values().forEach(persons::addAll);
+        }
+        return persons;
+    }
+}
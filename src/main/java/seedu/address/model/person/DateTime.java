@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -16,6 +17,8 @@ public class DateTime implements Comparable<DateTime> {
             .withResolverStyle(ResolverStyle.STRICT);
 
     private final LocalDateTime dateTime;
+    /** The whole minutes from the epoch, which order date times without comparing their fields. */
+    private final long epochMinute;
 
     /**
      * Constructs a {@code DateTime}.
@@ -24,6 +27,7 @@ public class DateTime implements Comparable<DateTime> {
      */
     public DateTime(String dateTime) {
         this.dateTime = LocalDateTime.parse(dateTime, FORMATTER);
+        this.epochMinute = toEpochMinute(this.dateTime);
     }
 
     /**
@@ -64,6 +68,20 @@ public class DateTime implements Comparable<DateTime> {
         return dateTime;
     }
 
+    /**
+     * Returns the number of whole minutes from the epoch to this date time, treating it as UTC.
+     */
+    public long toEpochMinute() {
+        return epochMinute;
+    }
+
+    /**
+     * Returns the number of whole minutes from the epoch to {@code dateTime}, treating it as UTC.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
 
     /**
      * Formats the DateTime object as a string.
@@ -84,16 +102,17 @@ public class DateTime implements Comparable<DateTime> {
         }
 
         DateTime otherDateTime = (DateTime) other;
-        return dateTime.equals(otherDateTime.dateTime);
+        // the format has no seconds, so date times in the same minute are equal
+        return epochMinute == otherDateTime.epochMinute;
     }
 
     @Override
     public int hashCode() {
-        return dateTime.hashCode();
+        return Long.hashCode(epochMinute);
     }
 
     @Override
     public int compareTo(DateTime other) {
-        return this.dateTime.compareTo(other.dateTime);
+        return Long.compare(epochMinute, other.epochMinute);
     }
 }
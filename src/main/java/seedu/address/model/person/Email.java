@@ -42,6 +42,9 @@ public class Email {
     );
 
     public final String value;
+    /** The value trimmed, which is what two equal emails have in common. */
+    private final String key;
+    private final int hash;
 
     /**
      * Constructs an {@code Email}.
@@ -52,6 +55,8 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        key = value.trim();
+        hash = key.hashCode();
     }
 
     /**
@@ -85,11 +90,11 @@ public class Email {
         }
 
         Email otherEmail = (Email) other;
-        return value.trim().equals((otherEmail.value.trim()));
+        return hash == otherEmail.hash && key.equals(otherEmail.key);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hash;
     }
 }
@@ -2,6 +2,9 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Objects;
+
+import seedu.address.commons.util.Interner;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -9,6 +12,9 @@ import seedu.address.commons.util.ToStringBuilder;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class EmergencyPerson {
+
+    private static final Interner<EmergencyPerson> POOL = new Interner<>();
+
     private final Name name;
     private final Phone phone;
     private final Relationship relationship;
@@ -39,6 +45,16 @@ public class EmergencyPerson {
         return name == null && phone == null && relationship == null;
     }
 
+    /**
+     * Returns the shared instance of this emergency contact, so that family members who name the same contact do
+     * not each keep a copy of it.
+     */
+    public EmergencyPerson intern() {
+        EmergencyPerson canonical = POOL.intern(this);
+        // names are equal regardless of case, but the contact should still be shown as it was entered
+        return canonical.name.toString().equals(name.toString()) ? canonical : this;
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
@@ -59,6 +75,11 @@ public class EmergencyPerson {
                 && relationship.equals(otherPerson.relationship);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, relationship);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
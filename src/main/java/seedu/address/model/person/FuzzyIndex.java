@@ -0,0 +1,178 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A deletion-neighbourhood index over the words of persons' names and addresses, for finding the words within a
+ * small edit distance of a keyword.
+ * Each word is indexed under every string reached by deleting at most {@link #MAX_DELETIONS} of its characters.
+ * A word within {@code k} edits of a keyword can be turned into the same string as the keyword by deleting at most
+ * {@code k} characters from each, so only the words indexed under a deletion of the keyword are candidates, and
+ * only those are compared with the keyword by edit distance. This narrows the candidates down for keywords of
+ * every length, however short.
+ */
+class FuzzyIndex {
+
+    /** The most edits tolerated for any keyword, as given by {@link FuzzyMatchPredicate#maxDistanceFor}. */
+    private static final int MAX_DELETIONS = 2;
+    /**
+     * The shortest deletion indexed. Keywords short enough to leave less after their deletions tolerate no edits,
+     * and are looked up as they are.
+     */
+    private static final int MIN_DELETION_LENGTH = 2;
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final Map<String, Set<String>> wordsByDeletion = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            Set<Person> posting = postings.get(word);
+            if (posting == null) {
+                posting = Collections.newSetFromMap(new IdentityHashMap<>());
+                postings.put(word, posting);
+                addWord(word);
+            }
+            posting.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the instance that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            Set<Person> posting = postings.get(word);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(word);
+                removeWord(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the persons in {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        wordsByDeletion.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with a word of their name or address within the maximum edit distance, as decided by
+     * {@code predicate}, of any of its keywords. The persons are returned in no particular order.
+     */
+    List<Person> getPersonsMatching(FuzzyMatchPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : predicate.getKeywords()) {
+            String foldedKeyword = fold(keyword);
+            int maxDistance = FuzzyMatchPredicate.maxDistanceFor(foldedKeyword);
+            for (String candidate : candidatesFor(foldedKeyword, maxDistance)) {
+                if (StringUtil.editDistance(foldedKeyword, candidate, maxDistance) <= maxDistance) {
+                    matches.addAll(postings.get(candidate));
+                }
+            }
+        }
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns the indexed words that may be within {@code maxDistance} edits of {@code keyword}.
+     */
+    private Set<String> candidatesFor(String keyword, int maxDistance) {
+        if (maxDistance == 0) {
+            return postings.containsKey(keyword) ? Set.of(keyword) : Set.of();
+        }
+        Set<String> candidates = new HashSet<>();
+        for (String deletion : deletionsOf(keyword, maxDistance)) {
+            for (String word : wordsByDeletion.getOrDefault(deletion, Set.of())) {
+                // words are indexed under more deletions than this keyword tolerates
+                if (Math.abs(word.length() - keyword.length()) <= maxDistance) {
+                    candidates.add(word);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void addWord(String word) {
+        for (String deletion : deletionsOf(word, MAX_DELETIONS)) {
+            wordsByDeletion.computeIfAbsent(deletion, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    private void removeWord(String word) {
+        for (String deletion : deletionsOf(word, MAX_DELETIONS)) {
+            Set<String> words = wordsByDeletion.get(deletion);
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByDeletion.remove(deletion);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code word} and the distinct strings reached by deleting at most {@code maxDeletions} of its
+     * characters, leaving out those shorter than {@link #MIN_DELETION_LENGTH}.
+     */
+    private static Set<String> deletionsOf(String word, int maxDeletions) {
+        Set<String> deletions = new HashSet<>();
+        deletions.add(word);
+        Set<String> previous = Set.of(word);
+        for (int deleted = 1; deleted <= maxDeletions; deleted++) {
+            Set<String> current = new HashSet<>();
+            for (String longer : previous) {
+                if (longer.length() <= MIN_DELETION_LENGTH) {
+                    continue;
+                }
+                for (int i = 0; i < longer.length(); i++) {
+                    current.add(longer.substring(0, i) + longer.substring(i + 1));
+                }
+            }
+            deletions.addAll(current);
+            previous = current;
+        }
+        return deletions;
+    }
+
+    /**
+     * Returns the case-folded words of the name and address of {@code person}, ignoring punctuation.
+     */
+    static Set<String> wordsOf(Person person) {
+        Set<String> words = new HashSet<>();
+        addWords(words, person.getName().toString());
+        addWords(words, person.getAddress().toString());
+        return words;
+    }
+
+    static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static void addWords(Set<String> words, String field) {
+        for (String word : field.split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty()) {
+                words.add(fold(word));
+            }
+        }
+    }
+}
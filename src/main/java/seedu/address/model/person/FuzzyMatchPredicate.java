@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} or {@code Address} is within a few edits of any of the
+ * keywords given, ignoring case. Longer keywords tolerate more edits, as given by {@link #maxDistanceFor}.
+ */
+public class FuzzyMatchPredicate implements Predicate<Person> {
+    public static final String FUZZY_MARKER = "~";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate matching words similar to any of {@code keywords}, which must not be empty strings.
+     */
+    public FuzzyMatchPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the largest number of edits a word may differ from {@code keyword} by and still match it.
+     */
+    public static int maxDistanceFor(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the fewest edits between a keyword and a word of the name or address of {@code person}, or
+     * {@link Integer#MAX_VALUE} if no word is within the maximum distance of any keyword.
+     */
+    public int distanceTo(Person person) {
+        Set<String> words = FuzzyIndex.wordsOf(person);
+        int bestDistance = Integer.MAX_VALUE;
+        for (String keyword : keywords) {
+            String foldedKeyword = FuzzyIndex.fold(keyword);
+            int maxDistance = maxDistanceFor(foldedKeyword);
+            for (String word : words) {
+                int distance = StringUtil.editDistance(foldedKeyword, word, maxDistance);
+                if (distance <= maxDistance) {
+                    bestDistance = Math.min(bestDistance, distance);
+                }
+            }
+        }
+        return bestDistance;
+    }
+
+    /**
+     * Returns a comparator that orders persons from the most to the least similar to the keywords.
+     * The comparator remembers the distance of each person it has compared, so that sorting computes each
+     * distance once.
+     */
+    public Comparator<Person> bySimilarity() {
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        return Comparator.comparingInt(person -> distances.computeIfAbsent(person, this::distanceTo));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return distanceTo(person) != Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyMatchPredicate)) {
+            return false;
+        }
+
+        FuzzyMatchPredicate otherFuzzyMatchPredicate = (FuzzyMatchPredicate) other;
+        return keywords.equals(otherFuzzyMatchPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from each word of a person's name, email and phone to the persons whose fields contain it.
+ * Words are compared case-insensitively, so that a keyword search is a union of the posting lists of its
+ * keywords rather than a scan of every person.
+ * The words are kept in sorted order, so that the words starting with a prefix are adjacent and can be found
+ * without visiting any other word.
+ */
+class KeywordIndex {
+
+    private final NavigableMap<String, Set<Person>> postings = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            postings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the instance that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            Set<Person> posting = postings.get(word);
+            if (posting != null) {
+                posting.remove(person);
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the persons in {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with any of {@code keywords} as a word of their name, email or phone, in no
+     * particular order. A keyword marked as a prefix by {@link NameContainsKeywordsPredicate#isPrefixKeyword}
+     * matches every word starting with it.
+     */
+    List<Person> getPersonsWithAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            if (NameContainsKeywordsPredicate.isPrefixKeyword(keyword)) {
+                String prefix = fold(NameContainsKeywordsPredicate.stripPrefixMarker(keyword));
+                wordsStartingWith(prefix).values().forEach(matches::addAll);
+            } else {
+                matches.addAll(postings.getOrDefault(fold(keyword), Set.of()));
+            }
+        }
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns up to {@code limit} of the indexed words starting with {@code prefix}, ignoring case, in
+     * alphabetical order.
+     */
+    List<String> getWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        return wordsStartingWith(fold(prefix)).keySet().stream().limit(limit).toList();
+    }
+
+    private NavigableMap<String, Set<Person>> wordsStartingWith(String foldedPrefix) {
+        return postings.tailMap(foldedPrefix, true).headMap(foldedPrefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the case-folded words of the name, email and phone of {@code person}.
+     */
+    static Set<String> wordsOf(Person person) {
+        Set<String> words = new HashSet<>();
+        addWords(words, person.getName().toString());
+        addWords(words, person.getEmail().toString());
+        addWords(words, person.getPhone().toString());
+        return words;
+    }
+
+    /**
+     * Folds {@code word} so that words differing only in case are indexed together.
+     */
+    static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static void addWords(Set<String> words, String field) {
+        for (String word : field.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(fold(word));
+            }
+        }
+    }
+}
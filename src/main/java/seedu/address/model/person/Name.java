@@ -3,6 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,7 +26,20 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}/\\-'\\s@]*";
 
+    /** Only used while holding its lock, as collators are not thread-safe. */
+    private static final Collator COLLATOR = Collator.getInstance();
+
+    static {
+        COLLATOR.setStrength(Collator.SECONDARY); // ignore case, as equals does
+    }
+
     public final String value;
+    /** The value trimmed and case-folded, which is what two equal names have in common. */
+    private final String key;
+    private final int hash;
+    private final Set<String> phoneticKeys;
+    /** Computed on first use, since most names are never sorted. */
+    private volatile CollationKey sortKey;
 
     /**
      * Constructs a {@code Name}.
@@ -31,6 +51,9 @@ public class Name {
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         String capitalized = name.substring(0, 1).toUpperCase() + name.substring(1);
         value = capitalized;
+        key = fold(value.trim());
+        hash = key.hashCode();
+        phoneticKeys = computePhoneticKeys(value);
     }
 
     /**
@@ -40,6 +63,51 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the Soundex codes of the words of this name, computed once when the name is created.
+     */
+    public Set<String> getPhoneticKeys() {
+        return phoneticKeys;
+    }
+
+    /**
+     * Folds {@code name} the same way {@link String#equalsIgnoreCase(String)} compares characters.
+     */
+    private static String fold(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(name.charAt(i))));
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Returns the key that orders this name alphabetically in the default locale, ignoring case.
+     * Equal names have equal keys, and comparing two keys allocates nothing.
+     */
+    public CollationKey getSortKey() {
+        CollationKey cachedSortKey = sortKey;
+        if (cachedSortKey == null) {
+            // a race only computes the same key twice, and the volatile field publishes the key safely
+            synchronized (COLLATOR) {
+                cachedSortKey = COLLATOR.getCollationKey(value.trim());
+            }
+            sortKey = cachedSortKey;
+        }
+        return cachedSortKey;
+    }
+
+    private static Set<String> computePhoneticKeys(String name) {
+        Set<String> keys = new HashSet<>();
+        for (String word : name.split("[\\s/\\-@]+")) {
+            String key = StringUtil.soundex(word);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return Set.copyOf(keys);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -57,11 +125,11 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return value.trim().equalsIgnoreCase(otherName.value.trim());
+        return hash == otherName.hash && key.equals(otherName.key);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hash;
     }
 }
@@ -1,28 +1,58 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name}, {@code Email} or {@code Phone} contains any of the keywords given
+ * as a full word, ignoring case. A keyword ending in {@value #PREFIX_MARKER} matches any word starting with the
+ * rest of the keyword.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+    public static final String PREFIX_MARKER = "*";
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(person.getName().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(person.getEmail().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(person.getPhone().toString(), keyword));
+        Set<String> words = KeywordIndex.wordsOf(person);
+        return keywords.stream().anyMatch(keyword -> isPrefixKeyword(keyword)
+                ? words.stream().anyMatch(word -> word.startsWith(KeywordIndex.fold(stripPrefixMarker(keyword))))
+                : words.contains(KeywordIndex.fold(keyword)));
+    }
+
+    /**
+     * Returns a predicate matching the same persons as this one, whose keywords are in lower case, in
+     * alphabetical order and without duplicates, so that it is equal to every other such predicate.
+     */
+    public NameContainsKeywordsPredicate normalized() {
+        return new NameContainsKeywordsPredicate(
+                keywords.stream().map(KeywordIndex::fold).distinct().sorted().toList());
+    }
+
+    /**
+     * Returns true if {@code keyword} matches the words starting with it, rather than a single word.
+     */
+    public static boolean isPrefixKeyword(String keyword) {
+        return keyword.endsWith(PREFIX_MARKER);
+    }
+
+    /**
+     * Returns {@code keyword} without its trailing prefix marker.
+     */
+    public static String stripPrefixMarker(String keyword) {
+        return keyword.substring(0, keyword.length() - PREFIX_MARKER.length());
     }
 
     @Override
@@ -40,6 +70,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
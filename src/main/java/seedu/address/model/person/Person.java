@@ -1,9 +1,8 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -11,16 +10,28 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * A person in a book has a patient ID that stays the same when their details are edited. Persons created
+ * without one have {@link #NO_ID} until they are added to a book, which gives them an ID it has not used before.
  */
 public class Person {
 
     // Static fields
     public static final EmergencyPerson NIL_EMERGENCY_CONTACT = new EmergencyPerson(
         new Name("NIL"), new Phone("00000000"), new Relationship("NIL"));
+    public static final String MESSAGE_ID_CONSTRAINTS = "Patient IDs should be positive numbers.";
+    /** The patient ID of a person who has not been given one yet. */
+    public static final long NO_ID = 0;
+
+    /** A far future date that sorts after all real dates. */
+    private static final DateTime NO_APPOINTMENT_DATE = new DateTime("31-12-9999 23:59");
+
+    // Surrogate key, not part of the person's identity or equality
+    private final long id;
 
     // Identity fields
     private final Name name;
@@ -29,33 +40,43 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final List<Set<Tag>> tags;
-    private final Set<Tag> allergies = new HashSet<>();
-    private final Set<Tag> conditions = new HashSet<>();
-    private final Set<Tag> insurances = new HashSet<>();
-    private EmergencyPerson emergencyContact;
+    private final TagSet allergies;
+    private final TagSet conditions;
+    private final TagSet insurances;
+    private final EmergencyPerson emergencyContact;
     private final Appointment appointment;
+
+    // Cached since every field is immutable; equal persons have equal hashes, so unequal hashes rule out equality
+    private final int hash;
+
     /**
      * Every field must be present and not null.
      */
-
     public Person(Name name, Phone phone, Email email, Address address, List<Set<Tag>> tags,
                   Appointment appointment, EmergencyPerson emergencyContact) {
+        this(NO_ID, name, phone, email, address, tags, appointment, emergencyContact);
+    }
+
+    /**
+     * Constructs a {@code Person} with the patient ID {@code id}, which must be valid or {@link #NO_ID}.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, List<Set<Tag>> tags,
+                  Appointment appointment, EmergencyPerson emergencyContact) {
         requireAllNonNull(name, phone, email, address);
+        checkArgument(id == NO_ID || isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         if (tags == null) {
-            this.tags = new ArrayList<>();
-            for (int i = 0; i < 3; i++) {
-                this.tags.add(new HashSet<>());
-            }
+            this.allergies = TagSet.EMPTY;
+            this.conditions = TagSet.EMPTY;
+            this.insurances = TagSet.EMPTY;
         } else {
-            this.allergies.addAll(tags.get(0));
-            this.conditions.addAll(tags.get(1));
-            this.insurances.addAll(tags.get(2));
-            this.tags = tags;
+            this.allergies = TagSet.of(tags.get(0));
+            this.conditions = TagSet.of(tags.get(1));
+            this.insurances = TagSet.of(tags.get(2));
         }
         if (appointment == null) {
             this.appointment = new Appointment();
@@ -67,6 +88,7 @@ public class Person {
         } else {
             this.emergencyContact = emergencyContact;
         }
+        this.hash = computeHash();
     }
 
     /**
@@ -86,15 +108,28 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> allergies, Set<Tag> conditions,
                   Set<Tag> insurances, Appointment appointment, EmergencyPerson emergencyContact) {
+        this(NO_ID, name, phone, email, address, allergies, conditions, insurances, appointment,
+                emergencyContact);
+    }
+
+    /**
+     * Constructs a {@code Person} with the patient ID {@code id}, which must be valid or {@link #NO_ID}, and the
+     * specified details.
+     *
+     * @see #Person(Name, Phone, Email, Address, Set, Set, Set, Appointment, EmergencyPerson)
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Set<Tag> allergies,
+                  Set<Tag> conditions, Set<Tag> insurances, Appointment appointment, EmergencyPerson emergencyContact) {
         requireAllNonNull(name, phone, email, address, allergies, conditions, insurances);
+        checkArgument(id == NO_ID || isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.allergies.addAll(allergies);
-        this.conditions.addAll(conditions);
-        this.insurances.addAll(insurances);
-        this.tags = List.of(this.allergies, this.conditions, this.insurances);
+        this.allergies = TagSet.of(allergies);
+        this.conditions = TagSet.of(conditions);
+        this.insurances = TagSet.of(insurances);
         if (appointment == null) {
             this.appointment = new Appointment();
         } else {
@@ -105,6 +140,34 @@ public class Person {
         } else {
             this.emergencyContact = emergencyContact;
         }
+        this.hash = computeHash();
+    }
+
+    /**
+     * Returns true if {@code id} is a valid patient ID.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this person has been given a patient ID.
+     */
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns a copy of this person with the patient ID {@code id}, which must be valid.
+     */
+    public Person withId(long id) {
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        return new Person(id, name, phone, email, address, allergies, conditions, insurances, appointment,
+                emergencyContact);
     }
 
     public Name getName() {
@@ -128,8 +191,8 @@ public class Person {
     }
 
     public Person setEmergencyContact(EmergencyPerson emergencyContact) {
-        Person newPerson = new Person(name, phone, email, address, tags, appointment, emergencyContact);
-        return newPerson;
+        return new Person(id, name, phone, email, address, allergies, conditions, insurances, appointment,
+                emergencyContact);
     }
 
     public Appointment getAppointment() {
@@ -148,7 +211,8 @@ public class Person {
      * @return A new {@code Person} instance with the updated appointment.
      */
     public Person withAppointment(Appointment appointment) {
-        return new Person(name, phone, email, address, tags, appointment, emergencyContact);
+        return new Person(id, name, phone, email, address, allergies, conditions, insurances, appointment,
+                emergencyContact);
     }
 
     /**
@@ -159,16 +223,16 @@ public class Person {
         return List.of(allergies, conditions, insurances);
     }
 
-    public Set<Tag> getAllergyTags() {
-        return Collections.unmodifiableSet(allergies);
+    public TagSet getAllergyTags() {
+        return allergies;
     }
 
-    public Set<Tag> getConditionTags() {
-        return Collections.unmodifiableSet(conditions);
+    public TagSet getConditionTags() {
+        return conditions;
     }
 
-    public Set<Tag> getInsuranceTags() {
-        return Collections.unmodifiableSet(insurances);
+    public TagSet getInsuranceTags() {
+        return insurances;
     }
 
     /**
@@ -191,8 +255,7 @@ public class Person {
      */
     public DateTime getEarliestAppointment() {
         if (appointment == null || appointment.getDateTime() == null) {
-            // Create a far future date that will sort after all real dates
-            return new DateTime("31-12-9999 23:59");
+            return NO_APPOINTMENT_DATE;
         }
         return appointment.getDateTime();
     }
@@ -216,11 +279,14 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags)
+                && allergies.equals(otherPerson.allergies)
+                && conditions.equals(otherPerson.conditions)
+                && insurances.equals(otherPerson.insurances)
                 && emergencyContact.equals(otherPerson.emergencyContact)
                 && appointment.equals(otherPerson.appointment);
     }
@@ -235,8 +301,12 @@ public class Person {
 
     @Override
     public int hashCode() {
+        return hash;
+    }
+
+    private int computeHash() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, emergencyContact);
+        return Objects.hash(name, phone, email, address, allergies, conditions, insurances, emergencyContact);
     }
 
     @Override
@@ -246,7 +316,7 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("address", address)
-                .add("tags", tags)
+                .add("tags", getTags())
                 .add("emergencyContact", emergencyContact)
                 .add("appointment", appointment)
                 .toString();
@@ -0,0 +1,150 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A map from patient IDs to persons, kept in primitive arrays with open addressing so that looking up an ID
+ * neither boxes it nor follows a chain of entries.
+ * Each entry also records a position, which {@link UniquePersonList} uses to find the person in its list. The
+ * map does not check positions; its user decides when they are current.
+ */
+class PersonIdMap {
+
+    private static final int INITIAL_CAPACITY = 16;
+    /** Marks a slot that has never held an entry. Patient IDs are positive, so no ID collides with it. */
+    private static final long EMPTY = 0;
+    /** Marks a slot whose entry was removed, which lookups must probe past. */
+    private static final long REMOVED = -1;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private Person[] persons = new Person[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int size;
+    /** The number of slots that are not {@code EMPTY}, including removed ones. */
+    private int usedSlots;
+
+    /**
+     * Returns the person with patient ID {@code id}, or null if there is none.
+     */
+    Person get(long id) {
+        int slot = find(id);
+        return slot == -1 ? null : persons[slot];
+    }
+
+    /**
+     * Returns the position recorded for patient ID {@code id}, or -1 if there is no such entry.
+     */
+    int getPosition(long id) {
+        int slot = find(id);
+        return slot == -1 ? -1 : positions[slot];
+    }
+
+    /**
+     * Maps the patient ID of {@code person} to {@code person} at {@code position}, replacing any person
+     * already mapped to that ID.
+     */
+    void put(Person person, int position) {
+        requireNonNull(person);
+        long id = person.getId();
+        int slot = find(id);
+        if (slot != -1) {
+            persons[slot] = person;
+            positions[slot] = position;
+            return;
+        }
+
+        if ((usedSlots + 1) * 2 > ids.length) {
+            rehash();
+        }
+        slot = slotFor(id);
+        while (ids[slot] != EMPTY && ids[slot] != REMOVED) {
+            slot = (slot + 1) & (ids.length - 1);
+        }
+        if (ids[slot] == EMPTY) {
+            usedSlots++;
+        }
+        ids[slot] = id;
+        persons[slot] = person;
+        positions[slot] = position;
+        size++;
+    }
+
+    /**
+     * Records {@code position} for patient ID {@code id}, if it is mapped.
+     */
+    void setPosition(long id, int position) {
+        int slot = find(id);
+        if (slot != -1) {
+            positions[slot] = position;
+        }
+    }
+
+    /**
+     * Removes the entry for the patient ID of {@code person}, if that ID is mapped to {@code person} itself.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        int slot = find(person.getId());
+        if (slot != -1 && persons[slot] == person) {
+            ids[slot] = REMOVED;
+            persons[slot] = null;
+            size--;
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        Arrays.fill(ids, EMPTY);
+        Arrays.fill(persons, null);
+        size = 0;
+        usedSlots = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int find(long id) {
+        int slot = slotFor(id);
+        while (ids[slot] != EMPTY) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+            slot = (slot + 1) & (ids.length - 1);
+        }
+        return -1;
+    }
+
+    private int slotFor(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (ids.length - 1);
+    }
+
+    /**
+     * Moves the entries into arrays sized for them, dropping removed slots.
+     */
+    private void rehash() {
+        long[] oldIds = ids;
+        Person[] oldPersons = persons;
+        int[] oldPositions = positions;
+
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < (size + 1) * 4) {
+            capacity <<= 1;
+        }
+        ids = new long[capacity];
+        persons = new Person[capacity];
+        positions = new int[capacity];
+        size = 0;
+        usedSlots = 0;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY && oldIds[i] != REMOVED) {
+                put(oldPersons[i], oldPositions[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A hash index over the identity fields used by {@link Person#isSamePerson(Person)}.
+ * Every indexed person is reachable through two keys: its name with its phone, and its name with its email.
+ * Looking up both keys answers "is there a person with the same identity" without scanning the list.
+ *
+ * The index assumes that the persons it holds are unique by identity, which {@code UniquePersonList} guarantees.
+ */
+class PersonIdentityIndex {
+
+    private final Map<IdentityKey, Person> byNameAndPhone = new HashMap<>();
+    private final Map<IdentityKey, Person> byNameAndEmail = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        byNameAndPhone.put(IdentityKey.ofPhone(person), person);
+        byNameAndEmail.put(IdentityKey.ofEmail(person), person);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        byNameAndPhone.remove(IdentityKey.ofPhone(person), person);
+        byNameAndEmail.remove(IdentityKey.ofEmail(person), person);
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        byNameAndPhone.clear();
+        byNameAndEmail.clear();
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code other}.
+     */
+    void setAll(PersonIdentityIndex other) {
+        requireNonNull(other);
+        clear();
+        byNameAndPhone.putAll(other.byNameAndPhone);
+        byNameAndEmail.putAll(other.byNameAndEmail);
+    }
+
+    /**
+     * Returns true if the index holds a person with the same identity as {@code toCheck}.
+     */
+    boolean contains(Person toCheck) {
+        requireNonNull(toCheck);
+        return byNameAndPhone.containsKey(IdentityKey.ofPhone(toCheck))
+                || byNameAndEmail.containsKey(IdentityKey.ofEmail(toCheck));
+    }
+
+    /**
+     * Returns a person in the index with the same identity as {@code toCheck}, if there is one.
+     */
+    Optional<Person> findSamePerson(Person toCheck) {
+        requireNonNull(toCheck);
+        Person samePhone = byNameAndPhone.get(IdentityKey.ofPhone(toCheck));
+        if (samePhone != null) {
+            return Optional.of(samePhone);
+        }
+        return Optional.ofNullable(byNameAndEmail.get(IdentityKey.ofEmail(toCheck)));
+    }
+
+    /**
+     * Returns true if the index holds a person, other than {@code excluded}, with the same identity as
+     * {@code toCheck}.
+     */
+    boolean containsExcluding(Person toCheck, Person excluded) {
+        requireNonNull(toCheck);
+        Person samePhone = byNameAndPhone.get(IdentityKey.ofPhone(toCheck));
+        Person sameEmail = byNameAndEmail.get(IdentityKey.ofEmail(toCheck));
+        return (samePhone != null && !samePhone.equals(excluded))
+                || (sameEmail != null && !sameEmail.equals(excluded));
+    }
+
+    /**
+     * Key made of a name and one contact field, either a {@code Phone} or an {@code Email}, matching the comparisons
+     * done by {@link Person#isSamePerson(Person)}. These fields hash and compare by their precomputed normalized
+     * keys, so building a key copies nothing.
+     */
+    private record IdentityKey(Name name, Object contact) {
+
+        static IdentityKey ofPhone(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone());
+        }
+
+        static IdentityKey ofEmail(Person person) {
+            return new IdentityKey(person.getName(), person.getEmail());
+        }
+    }
+}
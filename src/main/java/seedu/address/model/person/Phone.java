@@ -14,6 +14,9 @@ public class Phone {
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
     public final String value;
+    /** The value trimmed, which is what two equal phone numbers have in common. */
+    private final String key;
+    private final int hash;
 
     /**
      * Constructs a {@code Phone}.
@@ -24,6 +27,8 @@ public class Phone {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
+        key = value.trim();
+        hash = key.hashCode();
     }
 
     /**
@@ -50,12 +55,12 @@ public class Phone {
         }
 
         Phone otherPhone = (Phone) other;
-        return value.trim().equals(otherPhone.value.trim());
+        return hash == otherPhone.hash && key.equals(otherPhone.key);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hash;
     }
 
 }
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A multimap from the phonetic keys of persons' names to the persons with those keys.
+ * The keys of a name are computed once, when the name is created, so that a search by sound encodes only
+ * its keywords and then looks each of them up directly.
+ */
+class PhoneticIndex {
+
+    private final Map<String, Set<Person>> byKey = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String key : person.getName().getPhoneticKeys()) {
+            byKey.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the instance that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String key : person.getName().getPhoneticKeys()) {
+            Set<Person> persons = byKey.get(key);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                byKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the persons in {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        byKey.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with a word of their name that sounds like any of {@code keywords}, in no particular
+     * order.
+     */
+    List<Person> getPersonsSoundingLike(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matches.addAll(byKey.getOrDefault(StringUtil.soundex(keyword), Set.of()));
+        }
+        return new ArrayList<>(matches);
+    }
+}
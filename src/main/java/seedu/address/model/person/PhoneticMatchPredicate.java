@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} sounds like any of the keywords given, that is, has the
+ * same Soundex code.
+ */
+public class PhoneticMatchPredicate implements Predicate<Person> {
+    public static final String PHONETIC_MARKER = "?";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate matching names with a word that sounds like any of {@code keywords}.
+     */
+    public PhoneticMatchPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<String> keys = person.getName().getPhoneticKeys();
+        return keywords.stream().anyMatch(keyword -> keys.contains(StringUtil.soundex(keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneticMatchPredicate)) {
+            return false;
+        }
+
+        PhoneticMatchPredicate otherPhoneticMatchPredicate = (PhoneticMatchPredicate) other;
+        return keywords.equals(otherPhoneticMatchPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's relationship with their emergency contact in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRelationship(String)}
@@ -18,6 +20,8 @@ public class Relationship {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Relationship> POOL = new Interner<>();
+
     public final String value;
 
     /**
@@ -38,6 +42,13 @@ public class Relationship {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the shared instance of this relationship, of which there are only a handful in use.
+     */
+    public Relationship intern() {
+        return POOL.intern(this);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,243 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
+
+/**
+ * A boolean expression over the tags of a {@code Person}, such as {@code asthma AND medisave NOT peanuts}.
+ * Tag names are matched case-insensitively.
+ * An expression can be tested against a single person, or evaluated over a whole {@link UniquePersonList} as
+ * bitmap operations on its tag index.
+ */
+public abstract class TagExpression implements Predicate<Person> {
+
+    /**
+     * Returns an expression matching persons with a tag named {@code tagName} in {@code category}, or in any
+     * category if {@code category} is null.
+     */
+    public static TagExpression tag(TagCategory category, String tagName) {
+        requireNonNull(tagName);
+        return new Term(category, tagName);
+    }
+
+    /**
+     * Returns an expression matching persons matched by both {@code left} and {@code right}.
+     */
+    public static TagExpression and(TagExpression left, TagExpression right) {
+        requireAllNonNull(left, right);
+        return new And(left, right);
+    }
+
+    /**
+     * Returns an expression matching persons matched by either {@code left} or {@code right}.
+     */
+    public static TagExpression or(TagExpression left, TagExpression right) {
+        requireAllNonNull(left, right);
+        return new Or(left, right);
+    }
+
+    /**
+     * Returns an expression matching persons not matched by {@code operand}.
+     */
+    public static TagExpression not(TagExpression operand) {
+        requireNonNull(operand);
+        return new Not(operand);
+    }
+
+    /**
+     * Returns the ordinals, in {@code index}, of the persons matched by this expression.
+     * The returned bitmap may be modified by the caller.
+     */
+    abstract BitSet match(TagIndex index);
+
+    /**
+     * Matches persons with a tag of the given name.
+     */
+    private static class Term extends TagExpression {
+        private final TagCategory category;
+        private final String tagName;
+
+        Term(TagCategory category, String tagName) {
+            this.category = category;
+            this.tagName = tagName;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (TagCategory candidate : TagCategory.values()) {
+                if (category != null && category != candidate) {
+                    continue;
+                }
+                for (Tag tag : TagIndex.tagsOf(person, candidate)) {
+                    if (tag.tagName.equalsIgnoreCase(tagName)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        BitSet match(TagIndex index) {
+            return index.withTag(category, tagName);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Term)) {
+                return false;
+            }
+
+            Term otherTerm = (Term) other;
+            return category == otherTerm.category
+                    && TagIndex.fold(tagName).equals(TagIndex.fold(otherTerm.tagName));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(category, TagIndex.fold(tagName));
+        }
+
+        @Override
+        public String toString() {
+            return category == null ? tagName : category + ":" + tagName;
+        }
+    }
+
+    /**
+     * Matches persons matched by both operands.
+     */
+    private static class And extends TagExpression {
+        private final TagExpression left;
+        private final TagExpression right;
+
+        And(TagExpression left, TagExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return left.test(person) && right.test(person);
+        }
+
+        @Override
+        BitSet match(TagIndex index) {
+            BitSet matches = left.match(index);
+            if (!matches.isEmpty()) {
+                matches.and(right.match(index));
+            }
+            return matches;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof And
+                    && left.equals(((And) other).left) && right.equals(((And) other).right));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("AND", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    /**
+     * Matches persons matched by either operand.
+     */
+    private static class Or extends TagExpression {
+        private final TagExpression left;
+        private final TagExpression right;
+
+        Or(TagExpression left, TagExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return left.test(person) || right.test(person);
+        }
+
+        @Override
+        BitSet match(TagIndex index) {
+            BitSet matches = left.match(index);
+            matches.or(right.match(index));
+            return matches;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Or
+                    && left.equals(((Or) other).left) && right.equals(((Or) other).right));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("OR", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    /**
+     * Matches persons not matched by its operand.
+     */
+    private static class Not extends TagExpression {
+        private final TagExpression operand;
+
+        Not(TagExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        BitSet match(TagIndex index) {
+            BitSet matches = index.all();
+            matches.andNot(operand.match(index));
+            return matches;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("NOT", operand);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
+
+/**
+ * An inverted index from each tag, per category, to the set of persons carrying it.
+ * Every indexed person is given a small ordinal, and the persons carrying a tag are held as a bitmap of
+ * ordinals, so that combining tags is a matter of bitwise operations over the bitmaps.
+ * Ordinals of removed persons are reused by the persons added after them.
+ */
+class TagIndex {
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final BitSet liveOrdinals = new BitSet();
+    private final Map<TagKey, BitSet> byTag = new HashMap<>();
+    /** The number of categories each folded tag name is used in, in alphabetical order of the names. */
+    private final NavigableMap<String, Integer> tagNames = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        int ordinal = liveOrdinals.nextClearBit(0);
+        liveOrdinals.set(ordinal);
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(person);
+        } else {
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+
+        for (TagCategory category : TagCategory.values()) {
+            for (Tag tag : tagsOf(person, category)) {
+                byTag.computeIfAbsent(new TagKey(category, fold(tag.tagName)), this::createHolders).set(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the instance that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        liveOrdinals.clear(ordinal);
+        personsByOrdinal.set(ordinal, null);
+
+        for (TagCategory category : TagCategory.values()) {
+            for (Tag tag : tagsOf(person, category)) {
+                TagKey key = new TagKey(category, fold(tag.tagName));
+                BitSet holders = byTag.get(key);
+                if (holders != null) {
+                    holders.clear(ordinal);
+                    if (holders.isEmpty()) {
+                        byTag.remove(key);
+                        tagNames.computeIfPresent(key.foldedName(), (unused, count) -> count == 1 ? null : count - 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the persons in {@code persons}.
+     */
+    void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        ordinals.clear();
+        personsByOrdinal.clear();
+        liveOrdinals.clear();
+        byTag.clear();
+        tagNames.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the ordinals of the persons carrying a tag named {@code tagName} in {@code category}, or in any
+     * category if {@code category} is null. The returned bitmap may be modified by the caller.
+     */
+    BitSet withTag(TagCategory category, String tagName) {
+        String foldedName = fold(tagName);
+        BitSet holders = new BitSet();
+        for (TagCategory candidate : TagCategory.values()) {
+            if (category == null || category == candidate) {
+                BitSet categoryHolders = byTag.get(new TagKey(candidate, foldedName));
+                if (categoryHolders != null) {
+                    holders.or(categoryHolders);
+                }
+            }
+        }
+        return holders;
+    }
+
+    /**
+     * Returns up to {@code limit} of the indexed tag names in {@code category}, or in any category if
+     * {@code category} is null, that start with {@code prefix}, ignoring case, in alphabetical order.
+     * The names are returned case-folded.
+     */
+    List<String> getTagNamesStartingWith(TagCategory category, String prefix, int limit) {
+        String foldedPrefix = fold(prefix);
+        return tagNames.tailMap(foldedPrefix, true).headMap(foldedPrefix + Character.MAX_VALUE, false)
+                .keySet().stream()
+                .filter(name -> category == null || byTag.containsKey(new TagKey(category, name)))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Returns the ordinals of all indexed persons. The returned bitmap may be modified by the caller.
+     */
+    BitSet all() {
+        return (BitSet) liveOrdinals.clone();
+    }
+
+    /**
+     * Returns the persons with the ordinals in {@code ordinals}.
+     */
+    List<Person> personsAt(BitSet ordinals) {
+        List<Person> persons = new ArrayList<>(ordinals.cardinality());
+        ordinals.stream().forEach(ordinal -> persons.add(personsByOrdinal.get(ordinal)));
+        return persons;
+    }
+
+    private BitSet createHolders(TagKey key) {
+        tagNames.merge(key.foldedName(), 1, Integer::sum);
+        return new BitSet();
+    }
+
+    /**
+     * Returns the tags of {@code person} in {@code category}.
+     */
+    static Set<Tag> tagsOf(Person person, TagCategory category) {
+        switch (category) {
+        case ALLERGY:
+            return person.getAllergyTags();
+        case CONDITION:
+            return person.getConditionTags();
+        case INSURANCE:
+            return person.getInsuranceTags();
+        default:
+            throw new AssertionError("Unknown tag category: " + category);
+        }
+    }
+
+    /**
+     * Folds {@code tagName} so that tag names differing only in case are indexed together.
+     */
+    static String fold(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+
+    private record TagKey(TagCategory category, String foldedName) {}
+}
@@ -3,14 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagCategory;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +26,17 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are located by patient ID through a {@link PersonIdMap}, which records where each person is in the
+ * list, rather than by an equality scan. The list gives each person added without an ID of their own, or with an
+ * ID another person in it already has, the next ID after the highest it has held, so IDs are never reused
+ * within a list.
+ * Identity checks are answered by a {@link PersonIdentityIndex} kept in sync with the list, rather than by
+ * scanning every person. Likewise, appointment clashes and time-range queries are answered by an
+ * {@link AppointmentIndex}, tag expressions by a {@link TagIndex}, keyword searches by a
+ * {@link KeywordIndex}, fuzzy searches by a {@link FuzzyIndex}, and searches by sound by a {@link PhoneticIndex}.
+ * These search indexes are only built on the first query that needs them, so that a list that is loaded or
+ * copied but never searched, such as one read from storage, does not pay for them.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,45 +46,106 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersonIdentityIndex identityIndex = new PersonIdentityIndex();
+    private final AppointmentIndex appointmentIndex = new AppointmentIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    private final FuzzyIndex fuzzyIndex = new FuzzyIndex();
+    private final PhoneticIndex phoneticIndex = new PhoneticIndex();
+    /** Whether the search indexes have been built, after which they are kept in sync with the list. */
+    private boolean hasSearchIndexes;
+    private final PersonIdMap personsById = new PersonIdMap();
+    /** The position from which the positions recorded in {@code personsById} may be out of date. */
+    private int stalePositionsFrom;
+    private long version;
+    /** The highest patient ID held or reserved by the list so far. */
+    private long lastId;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.contains(toCheck);
+    }
+
+    /**
+     * Returns true if the list contains a person, other than {@code excluded}, with the same identity as
+     * {@code toCheck}.
+     */
+    public boolean containsExcluding(Person toCheck, Person excluded) {
+        requireAllNonNull(toCheck, excluded);
+        return identityIndex.containsExcluding(toCheck, excluded);
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a person to the list, giving them a new patient ID if {@link #assignId(Person)} requires it.
      * The person must not already exist in the list.
      */
-    public void add(Person toAdd) {
-        requireNonNull(toAdd);
-        if (contains(toAdd)) {
+    public void add(Person person) {
+        requireNonNull(person);
+        if (contains(person)) {
             throw new DuplicatePersonException();
         }
+        Person toAdd = assignId(person);
         internalList.add(toAdd);
+        identityIndex.add(toAdd);
+        addToSearchIndexes(toAdd);
+        int position = internalList.size() - 1;
+        personsById.put(toAdd, position);
+        if (stalePositionsFrom == position) {
+            stalePositionsFrom++;
+        }
+        version++;
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, giving them a new patient ID if
+     * {@link #assignId(Person)} requires it.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person person) {
+        requireNonNull(person);
+        if (contains(person)) {
+            throw new DuplicatePersonException();
+        }
+        Person toAdd = assignId(person);
+        internalList.add(index, toAdd);
+        identityIndex.add(toAdd);
+        addToSearchIndexes(toAdd);
+        personsById.put(toAdd, index);
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        version++;
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person stored keeps the patient ID of {@code target}.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (containsExcluding(editedPerson, target)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        long id = internalList.get(index).getId();
+        Person replacement = editedPerson.getId() == id ? editedPerson : editedPerson.withId(id);
+        Person replaced = internalList.set(index, replacement);
+        identityIndex.remove(replaced);
+        identityIndex.add(replacement);
+        removeFromSearchIndexes(replaced);
+        addToSearchIndexes(replacement);
+        personsById.remove(replaced);
+        personsById.put(replacement, index);
+        version++;
     }
 
     /**
@@ -75,35 +154,196 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        // The stored person may differ from toRemove in fields that equals() tolerates, such as appointment time
+        Person removed = internalList.remove(index);
+        identityIndex.remove(removed);
+        removeFromSearchIndexes(removed);
+        personsById.remove(removed);
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        version++;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * As {@code replacement} is already known to be unique, its persons are not validated again.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        reserveIdsUpTo(replacement.lastId);
+        replaceContents(replacement.internalList, replacement.identityIndex);
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * Replaces the contents of this list with {@code persons}, giving those without a patient ID new ones after
+     * the highest ID among them and held by the list so far.
+     *
+     * @throws DuplicatePersonException if {@code persons} contain duplicate persons or persons sharing a patient
+     *                                  ID, in which case this list is left unchanged.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        long nextId = Math.max(lastId, findHighestUniqueId(persons));
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            personsWithIds.add(person.hasId() ? person : person.withId(++nextId));
+        }
+        replaceContents(personsWithIds, null);
+        // the new IDs are only used up once the persons have been accepted
+        lastId = nextId;
+    }
+
+    /**
+     * Returns {@code person} if their patient ID is valid and not held by a person in the list, or else a copy
+     * of them with the next ID after the highest the list has held or reserved.
+     */
+    public Person assignId(Person person) {
+        requireNonNull(person);
+        if (person.hasId() && personsById.get(person.getId()) == null) {
+            reserveIdsUpTo(person.getId());
+            return person;
+        }
+        return person.withId(++lastId);
+    }
+
+    /**
+     * Ensures that no patient ID up to {@code id} is given to a person added to the list later.
+     */
+    public void reserveIdsUpTo(long id) {
+        lastId = Math.max(lastId, id);
+    }
+
+    /**
+     * Returns the highest patient ID held or reserved by the list so far.
+     */
+    public long getLastId() {
+        return lastId;
+    }
+
+    /**
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is none.
+     * The person with the same patient ID is checked first, so that finding a person taken from this list does
+     * not scan the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        int position = personsById.getPosition(person.getId());
+        if (stalePositionsFrom < internalList.size() && (position == -1 || position >= stalePositionsFrom)) {
+            refreshPositions();
+            position = personsById.getPosition(person.getId());
+        }
+        if (position != -1) {
+            Person candidate = internalList.get(position);
+            if (candidate == person || candidate.equals(person)) {
+                return position;
+            }
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Returns the person with patient ID {@code id}, if they are in the list.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns true if a person in the list has an appointment that clashes with {@code appointment}, as
+     * defined by {@link Appointment#equals(Object)}.
+     */
+    public boolean hasClashingAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        ensureSearchIndexes();
+        DateTime dateTime = appointment.getDateTime();
+        if (dateTime == null) {
+            // An undated appointment matches every person without an appointment, none of whom are indexed
+            return appointmentIndex.size() < internalList.size();
         }
+        return appointmentIndex.hasAppointmentWithin(dateTime.toEpochMinute(), Appointment.CLASH_WINDOW_MINUTES);
+    }
+
+    /**
+     * Returns the persons whose appointments start at or after {@code from} and before {@code to}, in order of
+     * appointment time.
+     */
+    public List<Person> getPersonsWithAppointmentBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        ensureSearchIndexes();
+        return appointmentIndex.getPersonsBetween(DateTime.toEpochMinute(from), DateTime.toEpochMinute(to));
+    }
+
+    /**
+     * Returns the persons matched by {@code expression}, evaluated over the tag index.
+     * The persons are not returned in any particular order.
+     */
+    public List<Person> getPersonsMatching(TagExpression expression) {
+        requireNonNull(expression);
+        ensureSearchIndexes();
+        return tagIndex.personsAt(expression.match(tagIndex));
+    }
+
+    /**
+     * Returns the persons with any of {@code keywords} as a full word of their name, email or phone, ignoring
+     * case. A keyword ending in {@value NameContainsKeywordsPredicate#PREFIX_MARKER} matches every word starting
+     * with it. The persons are not returned in any particular order.
+     */
+    public List<Person> getPersonsWithAnyKeyword(Collection<String> keywords) {
+        requireNonNull(keywords);
+        ensureSearchIndexes();
+        return keywordIndex.getPersonsWithAnyWord(keywords);
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate}, found through the trigram index rather than by testing
+     * every person. The persons are not returned in any particular order.
+     */
+    public List<Person> getPersonsMatching(FuzzyMatchPredicate predicate) {
+        requireNonNull(predicate);
+        ensureSearchIndexes();
+        return fuzzyIndex.getPersonsMatching(predicate);
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate}, looked up by phonetic key rather than by testing every
+     * person. The persons are not returned in any particular order.
+     */
+    public List<Person> getPersonsMatching(PhoneticMatchPredicate predicate) {
+        requireNonNull(predicate);
+        ensureSearchIndexes();
+        return phoneticIndex.getPersonsSoundingLike(predicate.getKeywords());
+    }
+
+    /**
+     * Returns up to {@code limit} of the words of the persons' names, emails and phones that start with
+     * {@code prefix}, ignoring case, in alphabetical order. The words are returned in lower case.
+     */
+    public List<String> getWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        ensureSearchIndexes();
+        return keywordIndex.getWordsStartingWith(prefix, limit);
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Returns up to {@code limit} of the persons' tag names in {@code category}, or in any category if
+     * {@code category} is null, that start with {@code prefix}, ignoring case, in alphabetical order.
+     * The tag names are returned in lower case.
+     */
+    public List<String> getTagNamesStartingWith(TagCategory category, String prefix, int limit) {
+        requireNonNull(prefix);
+        ensureSearchIndexes();
+        return tagIndex.getTagNamesStartingWith(category, prefix, limit);
     }
 
     /**
-     * Sorts the internal list using the given comparator.
-     * @param comparator the comparator to use for sorting
+     * Returns a number that changes whenever a person is added, replaced or removed, so that results computed
+     * from the list can be checked for staleness.
      */
-    public void sort(Comparator<Person> comparator) {
-        FXCollections.sort(internalList, comparator);
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -144,16 +384,199 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Replaces the contents of this list with {@code persons}, changing only the range between the persons that
+     * the two lists share, by reference, at either end. Listeners are told about that range alone, and only the
+     * persons entering or leaving the list are reindexed, so undoing a small bulk change or reordering the list
+     * does not redraw or reindex every person.
+     *
+     * @param knownIdentityIndex An identity index over {@code persons}, if they are already known to be unique;
+     *                           null if they must be validated.
+     * @throws DuplicatePersonException if {@code persons} must be validated and contain duplicate persons, in
+     *                                  which case this list is left unchanged.
+     */
+    private void replaceContents(List<Person> persons, PersonIdentityIndex knownIdentityIndex) {
+        int start = 0;
+        int oldEnd = internalList.size();
+        int newEnd = persons.size();
+        while (start < oldEnd && start < newEnd && internalList.get(start) == persons.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && internalList.get(oldEnd - 1) == persons.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        List<Person> outgoing = new ArrayList<>(internalList.subList(start, oldEnd));
+        List<Person> incoming = new ArrayList<>(persons.subList(start, newEnd));
+        List<Person> leaving = exclude(outgoing, incoming);
+        List<Person> entering = exclude(incoming, outgoing);
+
+        // Past this size, rebuilding the indexes is cheaper than updating them one person at a time
+        boolean isRebuilding = leaving.size() + entering.size() > persons.size();
+        if (isRebuilding) {
+            if (knownIdentityIndex == null) {
+                identityIndex = indexUniquePersons(persons);
+            } else {
+                identityIndex.setAll(knownIdentityIndex);
+            }
+        } else {
+            updateIdentityIndex(leaving, entering, knownIdentityIndex == null);
+        }
+
+        if (outgoing.size() == 1 && incoming.size() == 1) {
+            internalList.set(start, incoming.get(0));
+        } else {
+            if (!outgoing.isEmpty()) {
+                internalList.remove(start, oldEnd);
+            }
+            if (!incoming.isEmpty()) {
+                internalList.addAll(start, incoming);
+            }
+        }
+
+        if (isRebuilding) {
+            if (hasSearchIndexes) {
+                buildSearchIndexes();
+            }
+            personsById.clear();
+            for (int i = 0; i < internalList.size(); i++) {
+                personsById.put(internalList.get(i), i);
+            }
+            stalePositionsFrom = internalList.size();
+        } else {
+            leaving.forEach(this::removeFromSearchIndexes);
+            entering.forEach(this::addToSearchIndexes);
+            leaving.forEach(personsById::remove);
+            entering.forEach(person -> personsById.put(person, -1));
+            stalePositionsFrom = Math.min(stalePositionsFrom, start);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code leaving} from and adds {@code entering} to the identity index.
+     *
+     * @throws DuplicatePersonException if {@code isValidating} and a person in {@code entering} has the same
+     *                                  identity as another person in the list, in which case the index is
+     *                                  left unchanged.
+     */
+    private void updateIdentityIndex(List<Person> leaving, List<Person> entering, boolean isValidating) {
+        leaving.forEach(identityIndex::remove);
+        for (int i = 0; i < entering.size(); i++) {
+            Person person = entering.get(i);
+            Optional<Person> samePerson = isValidating ? identityIndex.findSamePerson(person) : Optional.empty();
+            if (samePerson.isPresent()) {
+                entering.subList(0, i).forEach(identityIndex::remove);
+                leaving.forEach(identityIndex::add);
+                throw new DuplicatePersonException(samePerson.get(), person);
+            }
+            identityIndex.add(person);
+        }
+    }
+
+    /**
+     * Records the current positions of the persons from {@code stalePositionsFrom} onwards.
+     */
+    private void refreshPositions() {
+        for (int i = stalePositionsFrom; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            if (personsById.get(person.getId()) == person) {
+                personsById.setPosition(person.getId(), i);
+            }
+        }
+        stalePositionsFrom = internalList.size();
+    }
+
+    /**
+     * Builds the search indexes over the list if they have not been built yet.
+     */
+    private void ensureSearchIndexes() {
+        if (!hasSearchIndexes) {
+            buildSearchIndexes();
+            hasSearchIndexes = true;
+        }
+    }
+
+    private void buildSearchIndexes() {
+        appointmentIndex.setAll(internalList);
+        tagIndex.setAll(internalList);
+        keywordIndex.setAll(internalList);
+        fuzzyIndex.setAll(internalList);
+        phoneticIndex.setAll(internalList);
+    }
+
+    private void addToSearchIndexes(Person person) {
+        if (!hasSearchIndexes) {
+            return;
+        }
+        appointmentIndex.add(person);
+        tagIndex.add(person);
+        keywordIndex.add(person);
+        fuzzyIndex.add(person);
+        phoneticIndex.add(person);
+    }
+
+    private void removeFromSearchIndexes(Person person) {
+        if (!hasSearchIndexes) {
+            return;
+        }
+        appointmentIndex.remove(person);
+        tagIndex.remove(person);
+        keywordIndex.remove(person);
+        fuzzyIndex.remove(person);
+        phoneticIndex.remove(person);
+    }
+
+    /**
+     * Returns the highest patient ID among {@code persons}, or {@code Person.NO_ID} if none of them has one.
+     *
+     * @throws DuplicatePersonException naming the first pair of persons sharing a patient ID, if any.
+     */
+    private static long findHighestUniqueId(List<Person> persons) {
+        PersonIdMap personsById = new PersonIdMap();
+        long highestId = Person.NO_ID;
+        for (Person person : persons) {
+            if (!person.hasId()) {
+                continue;
+            }
+            Person sameId = personsById.get(person.getId());
+            if (sameId != null) {
+                throw new DuplicatePersonException(person.getId(), sameId, person);
+            }
+            personsById.put(person, -1);
+            highestId = Math.max(highestId, person.getId());
+        }
+        return highestId;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that are not, by reference, in {@code excluded}.
+     */
+    private static List<Person> exclude(List<Person> persons, List<Person> excluded) {
+        Set<Person> excludedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        excludedPersons.addAll(excluded);
+        List<Person> remaining = new ArrayList<>();
+        for (Person person : persons) {
+            if (!excludedPersons.contains(person)) {
+                remaining.add(person);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Builds an identity index over {@code persons} in a single pass.
+     *
+     * @throws DuplicatePersonException naming the first pair of persons with the same identity, if any.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static PersonIdentityIndex indexUniquePersons(List<Person> persons) {
+        PersonIdentityIndex index = new PersonIdentityIndex();
+        for (Person person : persons) {
+            Optional<Person> samePerson = index.findSamePerson(person);
+            if (samePerson.isPresent()) {
+                throw new DuplicatePersonException(samePerson.get(), person);
             }
+            index.add(person);
         }
-        return true;
+        return index;
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.person.exceptions;
 
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,19 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates an exception naming the first pair of persons found to have the same identity.
+     */
+    public DuplicatePersonException(Person first, Person second) {
+        super("Operation would result in duplicate persons: " + first.getName() + " and " + second.getName());
+    }
+
+    /**
+     * Creates an exception naming the first pair of persons found to share the patient ID {@code id}.
+     */
+    public DuplicatePersonException(long id, Person first, Person second) {
+        super("Operation would result in persons sharing patient ID " + id + ": " + first.getName() + " and "
+                + second.getName());
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}[\\p{Alnum}\\s]*";
 
+    private static final Interner<Tag> POOL = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -32,6 +36,13 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the shared instance of this tag, so that patients with the same tag do not each keep a copy of it.
+     */
+    public Tag intern() {
+        return POOL.intern(this);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
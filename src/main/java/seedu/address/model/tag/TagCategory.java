@@ -0,0 +1,10 @@
+package seedu.address.model.tag;
+
+/**
+ * The categories a patient's tags are kept in.
+ */
+public enum TagCategory {
+    ALLERGY,
+    CONDITION,
+    INSURANCE
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Numbers the distinct tags in use, so that a set of tags can be kept as an array of small integers.
+ * Each number belongs to the shared instance of a tag, as given by {@link Tag#intern()}. The dictionary only
+ * holds those instances weakly, so a tag is dropped once no {@link TagSet} or other object refers to it, and its
+ * number is given to the next new tag. The numbers in use therefore stay as few as the tags in use.
+ */
+final class TagDictionary {
+
+    private static final Map<Tag, Integer> codes = new WeakHashMap<>();
+    private static final ReferenceQueue<Tag> droppedTags = new ReferenceQueue<>();
+    private static final Deque<Integer> freeCodes = new ArrayDeque<>();
+    private static CodeReference[] tags = new CodeReference[64];
+    private static int nextCode;
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the shared instance of {@code tag}, numbering it if it is not in use.
+     * The number stays the tag's for as long as the returned instance is held.
+     */
+    static synchronized Tag canonicalOf(Tag tag) {
+        requireNonNull(tag);
+        Integer code = codes.get(tag);
+        Tag canonical = code == null ? null : tags[code].get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        reclaimDroppedCodes();
+        canonical = tag.intern();
+        int newCode = freeCodes.isEmpty() ? nextCode++ : freeCodes.pop();
+        if (newCode == tags.length) {
+            tags = Arrays.copyOf(tags, newCode * 2);
+        }
+        tags[newCode] = new CodeReference(canonical, newCode);
+        codes.put(canonical, newCode);
+        return canonical;
+    }
+
+    /**
+     * Returns the number of {@code canonical}, which must have been returned by {@link #canonicalOf(Tag)}.
+     */
+    static synchronized int codeOf(Tag canonical) {
+        return codes.get(canonical);
+    }
+
+    /**
+     * Returns the number of {@code tag}, or -1 if it is not in use.
+     */
+    static synchronized int findCode(Tag tag) {
+        Integer code = codes.get(tag);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Frees the numbers of the tags that have been dropped since the last call.
+     */
+    private static void reclaimDroppedCodes() {
+        CodeReference dropped;
+        while ((dropped = (CodeReference) droppedTags.poll()) != null) {
+            if (tags[dropped.code] == dropped) {
+                tags[dropped.code] = null;
+                freeCodes.push(dropped.code);
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a numbered tag, which remembers the number so that it can be freed once the tag is
+     * dropped.
+     */
+    private static class CodeReference extends WeakReference<Tag> {
+        private final int code;
+
+        CodeReference(Tag tag, int code) {
+            super(tag, droppedTags);
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of tags, kept as a sorted array of the numbers {@link TagDictionary} gives the tags.
+ * Most patients have only a few tags in each category, so this takes a fraction of the memory of a
+ * {@code HashSet}, and two sets are compared by comparing their arrays.
+ * The set also holds the shared instances of its tags, which keeps their numbers from being given to other tags.
+ * Iterates over the tags in the order of their numbers.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new int[0], new Tag[0]);
+
+    private final int[] codes;
+    /** The shared instance of the tag numbered by each code, in the same order. */
+    private final Tag[] tags;
+
+    private TagSet(int[] codes, Tag[] tags) {
+        this.codes = codes;
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a set holding {@code tags}, which is {@code tags} itself if it is already a {@code TagSet}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] codes = new int[tags.size()];
+        Tag[] canonicalTags = new Tag[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            canonicalTags[count] = TagDictionary.canonicalOf(tag);
+            codes[count] = TagDictionary.codeOf(canonicalTags[count]);
+            count++;
+        }
+        return fromCodes(codes, canonicalTags, count);
+    }
+
+    /**
+     * Returns a set holding the tags in this set and in {@code tags}, which is this set if nothing is added.
+     */
+    public TagSet union(Collection<Tag> tags) {
+        requireNonNull(tags);
+        int[] mergedCodes = Arrays.copyOf(codes, codes.length + tags.size());
+        Tag[] mergedTags = Arrays.copyOf(this.tags, codes.length + tags.size());
+        int count = codes.length;
+        for (Tag tag : tags) {
+            Tag canonical = TagDictionary.canonicalOf(tag);
+            int code = TagDictionary.codeOf(canonical);
+            if (Arrays.binarySearch(codes, code) < 0) {
+                mergedCodes[count] = code;
+                mergedTags[count] = canonical;
+                count++;
+            }
+        }
+        return count == codes.length ? this : fromCodes(mergedCodes, mergedTags, count);
+    }
+
+    /**
+     * Returns a set holding the tags in this set but not in {@code tags}, which is this set if nothing is removed.
+     */
+    public TagSet difference(Collection<Tag> tags) {
+        requireNonNull(tags);
+        int[] keptCodes = new int[codes.length];
+        Tag[] keptTags = new Tag[codes.length];
+        int count = 0;
+        for (int i = 0; i < codes.length; i++) {
+            if (!tags.contains(this.tags[i])) {
+                keptCodes[count] = codes[i];
+                keptTags[count] = this.tags[i];
+                count++;
+            }
+        }
+        return count == codes.length ? this : fromCodes(keptCodes, keptTags, count);
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Tag)) {
+            return false;
+        }
+        int code = TagDictionary.findCode((Tag) object);
+        return code != -1 && Arrays.binarySearch(codes, code) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < codes.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof TagSet) {
+            return Arrays.equals(codes, ((TagSet) other).codes);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // must match the hash code of any other Set holding the same tags
+        return super.hashCode();
+    }
+
+    /**
+     * Returns a set holding the first {@code count} codes in {@code codes} and their tags in {@code tags}, which
+     * may be unsorted and may repeat.
+     */
+    private static TagSet fromCodes(int[] codes, Tag[] tags, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        // insertion sort, as sets are small and the two arrays must be sorted together
+        for (int i = 1; i < count; i++) {
+            int code = codes[i];
+            Tag tag = tags[i];
+            int j = i - 1;
+            while (j >= 0 && codes[j] > code) {
+                codes[j + 1] = codes[j];
+                tags[j + 1] = tags[j];
+                j--;
+            }
+            codes[j + 1] = code;
+            tags[j + 1] = tag;
+        }
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (codes[i] != codes[distinct - 1]) {
+                codes[distinct] = codes[i];
+                tags[distinct] = tags[i];
+                distinct++;
+            }
+        }
+        return distinct == codes.length
+                ? new TagSet(codes, tags)
+                : new TagSet(Arrays.copyOf(codes, distinct), Arrays.copyOf(tags, distinct));
+    }
+}
@@ -70,9 +70,9 @@ public class JsonAdaptedEmergencyPerson {
         if (!Relationship.isValidRelationship(relationship)) {
             throw new IllegalValueException(Relationship.MESSAGE_CONSTRAINTS);
         }
-        final Relationship modelRelationship = new Relationship(relationship);
+        final Relationship modelRelationship = new Relationship(relationship).intern();
 
-        return new EmergencyPerson(modelName, modelPhone, modelRelationship);
+        return new EmergencyPerson(modelName, modelPhone, modelRelationship).intern();
     }
 
     @Override
@@ -24,6 +24,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -36,15 +37,18 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A person without an {@code id}, as saved before patient IDs were recorded, is given a new one when loaded.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address,
             @JsonProperty("allergyTags") List<JsonAdaptedTag> allergyTags,
             @JsonProperty("conditionTags") List<JsonAdaptedTag> conditionTags,
                              @JsonProperty("insuranceTags") List<JsonAdaptedTag> insuranceTags,
             @JsonProperty("appointment") String appointment,
                              @JsonProperty("emergencyContact") JsonAdaptedEmergencyPerson emergencyContact) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -62,10 +66,21 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} without a patient ID with the given person details.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address,
+            List<JsonAdaptedTag> allergyTags, List<JsonAdaptedTag> conditionTags,
+            List<JsonAdaptedTag> insuranceTags, String appointment, JsonAdaptedEmergencyPerson emergencyContact) {
+        this(null, name, phone, email, address, allergyTags, conditionTags, insuranceTags, appointment,
+                emergencyContact);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().toString();
         phone = source.getPhone().toString();
         email = source.getEmail().toString();
@@ -142,7 +157,7 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = new Address(address).intern();
 
         if (appointment == null) {
             throw new IllegalValueException(
@@ -154,8 +169,15 @@ class JsonAdaptedPerson {
         }
         final Appointment modelAppointment = new Appointment(appointment);
 
-        Person person = new Person(modelName, modelPhone, modelEmail, modelAddress,
-                modelAllergyTags, modelConditionTags, modelInsuranceTags, modelAppointment, null);
+        if (id != null && !Person.isValidId(id)) {
+            throw new IllegalValueException(Person.MESSAGE_ID_CONSTRAINTS);
+        }
+
+        Person person = id == null
+                ? new Person(modelName, modelPhone, modelEmail, modelAddress,
+                        modelAllergyTags, modelConditionTags, modelInsuranceTags, modelAppointment, null)
+                : new Person(id, modelName, modelPhone, modelEmail, modelAddress,
+                        modelAllergyTags, modelConditionTags, modelInsuranceTags, modelAppointment, null);
 
         if (emergencyContact != null) {
             return person.setEmergencyContact(emergencyContact.toModelType());
@@ -20,6 +20,7 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Persons list contains duplicate patient ID(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -47,11 +48,19 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        List<Person> loadedPersons = new ArrayList<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+            loadedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        // persons without an ID are given new ones, which must not be the IDs of persons later in the file
+        loadedPersons.forEach(person -> addressBook.reserveIdsUpTo(person.getId()));
+        for (Person person : loadedPersons) {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
+            if (addressBook.getPersonById(person.getId()).isPresent()) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+            }
             addressBook.addPerson(person);
         }
         return addressBook;
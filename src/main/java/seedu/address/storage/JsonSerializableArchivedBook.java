@@ -20,6 +20,7 @@ import seedu.address.model.person.Person;
 class JsonSerializableArchivedBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Persons list contains duplicate patient ID(s).";
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -48,11 +49,19 @@ class JsonSerializableArchivedBook {
      */
     public ArchivedBook toModelType() throws IllegalValueException {
         ArchivedBook archivedBook = new ArchivedBook();
+        List<Person> loadedPersons = new ArrayList<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+            loadedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        // persons without an ID are given new ones, which must not be the IDs of persons later in the file
+        loadedPersons.forEach(person -> archivedBook.reserveIdsUpTo(person.getId()));
+        for (Person person : loadedPersons) {
             if (archivedBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
+            if (archivedBook.getPersonById(person.getId()).isPresent()) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+            }
             archivedBook.addArchivedPerson(person);
         }
         return archivedBook;
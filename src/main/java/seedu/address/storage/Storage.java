@@ -41,4 +41,10 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, ArchivedB
 
     @Override
     void saveArchivedContacts(ReadOnlyArchivedBook archivedAddressBook, Path filePath) throws IOException;
+
+    /**
+     * Writes out any saved data that has not been written to disk yet.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
 }
@@ -110,4 +110,9 @@ public class StorageManager implements Storage {
         logger.fine("Saving archived contacts..." + filePath);
         archivedBookStorage.saveArchivedContacts(archivedAddressBook, filePath);
     }
+
+    @Override
+    public void flush() {
+        // every save is written at once, so there is nothing left to write
+    }
 }
@@ -0,0 +1,307 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyArchivedBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Wraps a {@code Storage} so that the address book and the archived book are written to disk in the background.
+ * Saving a book only takes a copy of its list of persons, which are immutable, and a background thread writes
+ * the copy out at most {@code maxDelay} milliseconds later. A book saved again in the meantime replaces the copy
+ * still waiting, so a burst of changes is written once. A book whose version has not changed since it was last
+ * saved is not copied or written at all. A {@code maxDelay} of 0 writes each save at once, on the calling thread.
+ *
+ * A write that fails in the background is logged and reported by the next save. The copy that failed stays
+ * waiting, unless a later copy has replaced it, so it is retried with that save or written by {@link #flush()}.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final int maxDelay;
+    /** The thread books are written on, or null if they are written on the calling thread. */
+    private final ScheduledExecutorService writer;
+    /** Held while writing, so that one copy of a book is never written over a later one. */
+    private final Object writeLock = new Object();
+
+    private final PendingWrite addressBookWrite = new PendingWrite();
+    private final PendingWrite archivedBookWrite = new PendingWrite();
+    private boolean isWriteScheduled;
+    private IOException failure;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that saves through {@code storage}, writing each change at most
+     * {@code maxDelay} milliseconds after it is saved.
+     */
+    public WriteBehindStorage(Storage storage, int maxDelay) {
+        requireNonNull(storage);
+        checkArgument(maxDelay >= 0, "Save delay must not be negative");
+        this.storage = storage;
+        this.maxDelay = maxDelay;
+        this.writer = maxDelay == 0 ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        save(addressBookWrite, addressBook, addressBook.getVersion(), addressBook.getPersonList());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ ArchivedBook methods ==============================
+
+    @Override
+    public Path getArchivedContactsFilePath() {
+        return storage.getArchivedContactsFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyArchivedBook> readArchivedContacts() throws DataLoadingException {
+        return storage.readArchivedContacts();
+    }
+
+    @Override
+    public Optional<ReadOnlyArchivedBook> readArchivedContacts(Path filePath) throws DataLoadingException {
+        return storage.readArchivedContacts(filePath);
+    }
+
+    @Override
+    public void saveArchivedContacts(ReadOnlyArchivedBook archivedAddressBook) throws IOException {
+        requireNonNull(archivedAddressBook);
+        save(archivedBookWrite, archivedAddressBook, archivedAddressBook.getVersion(),
+                archivedAddressBook.getArchivedContactList());
+    }
+
+    @Override
+    public void saveArchivedContacts(ReadOnlyArchivedBook archivedAddressBook, Path filePath) throws IOException {
+        storage.saveArchivedContacts(archivedAddressBook, filePath);
+    }
+
+    // ================ Writing ==============================
+
+    /**
+     * Writes out the books waiting to be written, including any whose background write failed.
+     * An earlier failure is only reported if a book still cannot be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            writePending();
+            synchronized (this) {
+                failure = null;
+            }
+        }
+    }
+
+    /**
+     * Queues the {@code persons} of {@code book} to be written by {@code pendingWrite} if the book is not at the
+     * {@code version} it was last saved at, and schedules a write if any persons, including those of a failed
+     * write, are waiting. Then reports any earlier write that failed.
+     */
+    private void save(PendingWrite pendingWrite, Object book, long version, List<Person> persons)
+            throws IOException {
+        boolean isWriteNeeded;
+        synchronized (this) {
+            isWriteNeeded = pendingWrite.offer(book, version, persons) && !isWriteScheduled;
+            isWriteScheduled |= isWriteNeeded;
+        }
+        if (isWriteNeeded && writer == null) {
+            writePending();
+        } else if (isWriteNeeded) {
+            writer.schedule(this::writePendingInBackground, maxDelay, TimeUnit.MILLISECONDS);
+        }
+        throwFailure();
+    }
+
+    private void writePendingInBackground() {
+        synchronized (writeLock) {
+            try {
+                writePending();
+            } catch (IOException e) {
+                logger.severe("Error saving data in the background: " + e.getMessage());
+                synchronized (this) {
+                    failure = failure == null ? e : failure;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes out the books waiting to be written. The persons of a book that fails to be written are kept
+     * waiting, so that they are written again by the next save or flush.
+     */
+    private void writePending() throws IOException {
+        synchronized (writeLock) {
+            ObservableList<Person> persons;
+            ObservableList<Person> archivedPersons;
+            synchronized (this) {
+                persons = addressBookWrite.take();
+                archivedPersons = archivedBookWrite.take();
+                isWriteScheduled = false;
+            }
+
+            IOException writeFailure = null;
+            if (persons != null) {
+                try {
+                    storage.saveAddressBook(new SavedPersons(persons));
+                } catch (IOException e) {
+                    writeFailure = e;
+                    restore(addressBookWrite, persons);
+                }
+            }
+            if (archivedPersons != null) {
+                try {
+                    storage.saveArchivedContacts(new SavedPersons(archivedPersons));
+                } catch (IOException e) {
+                    writeFailure = writeFailure == null ? e : writeFailure;
+                    restore(archivedBookWrite, archivedPersons);
+                }
+            }
+            if (writeFailure != null) {
+                throw writeFailure;
+            }
+        }
+    }
+
+    private synchronized void restore(PendingWrite pendingWrite, ObservableList<Person> persons) {
+        pendingWrite.restore(persons);
+    }
+
+    private void throwFailure() throws IOException {
+        IOException failureToReport;
+        synchronized (this) {
+            failureToReport = failure;
+            failure = null;
+        }
+        if (failureToReport != null) {
+            throw failureToReport;
+        }
+    }
+
+    /**
+     * The book and version last saved for one data file, and the persons still waiting to be written.
+     */
+    private static class PendingWrite {
+        private Object savedBook;
+        private long savedVersion;
+        private ObservableList<Person> unwritten;
+
+        /**
+         * Copies {@code persons} to be written unless {@code book} is the book last saved and is still at
+         * {@code version}, and returns true if any persons are waiting to be written.
+         */
+        boolean offer(Object book, long version, List<Person> persons) {
+            if (book != savedBook || version != savedVersion) {
+                savedBook = book;
+                savedVersion = version;
+                unwritten = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+            }
+            return unwritten != null;
+        }
+
+        /**
+         * Returns the persons waiting to be written, or null if there are none, and marks them as written.
+         */
+        ObservableList<Person> take() {
+            ObservableList<Person> persons = unwritten;
+            unwritten = null;
+            return persons;
+        }
+
+        /**
+         * Puts back {@code persons}, which failed to be written, unless a later copy is already waiting.
+         */
+        void restore(ObservableList<Person> persons) {
+            if (unwritten == null) {
+                unwritten = persons;
+            }
+        }
+    }
+
+    /**
+     * A copy of the persons of a book, handed to the wrapped storage to be written.
+     */
+    private static class SavedPersons implements ReadOnlyAddressBook, ReadOnlyArchivedBook {
+        private final ObservableList<Person> persons;
+
+        SavedPersons(ObservableList<Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Person> getArchivedContactList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
@@ -17,18 +22,35 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final SuggestionProvider suggestionProvider;
+    private final ContextMenu suggestionMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and no suggestions.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, unused -> List.of());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which suggests completions from the
+     * given {@code SuggestionProvider} as the user types.
+     */
+    public CommandBox(CommandExecutor commandExecutor, SuggestionProvider suggestionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.suggestionProvider = suggestionProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> showSuggestions(newText));
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                suggestionMenu.hide();
+            }
+        });
     }
 
     /**
@@ -41,6 +63,7 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        suggestionMenu.hide();
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -49,6 +72,38 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Shows the suggested completions of the last word of {@code commandText} below the command box, or hides
+     * them if there are none.
+     */
+    private void showSuggestions(String commandText) {
+        List<String> suggestions = suggestionProvider.getSuggestions(commandText);
+        if (suggestions.isEmpty() || !commandTextField.isFocused()) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        suggestionMenu.getItems().clear();
+        for (String suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion);
+            item.setOnAction(unused -> acceptSuggestion(suggestion));
+            suggestionMenu.getItems().add(item);
+        }
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the last word of the command text with {@code suggestion}.
+     */
+    private void acceptSuggestion(String suggestion) {
+        String commandText = commandTextField.getText();
+        int lastWordStart = commandText.stripTrailing().lastIndexOf(' ') + 1;
+        commandTextField.setText(commandText.substring(0, lastWordStart) + suggestion + " ");
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +137,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions for a partially typed command.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Returns suggested replacements for the last word of {@code commandText}.
+         *
+         * @see seedu.address.logic.Logic#getSuggestions(String)
+         */
+        List<String> getSuggestions(String commandText);
+    }
+
 }
@@ -0,0 +1,108 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Runs the benchmarks of the operations tuned for large address books, with {@code ./gradlew benchmark}.
+ * Each operation is run for a few warm-up rounds, so that it has been compiled, and then timed over measured
+ * rounds. The median round is reported, as it is less affected by garbage collection than the mean.
+ * The timings are only comparable between runs on the same machine.
+ */
+public final class Benchmarks {
+
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 9;
+    private static final String[] SYLLABLES = {"an", "bel", "cho", "da", "en", "fi", "gu", "ha", "ing", "jo",
+        "ka", "li", "mei", "na", "or", "pe", "qi", "ra", "su", "tan", "u", "vi", "wei", "xu", "ya", "zo"};
+    private static final String[] TAG_NAMES = {"Asthma", "Diabetes", "Peanuts", "Penicillin", "Medisave",
+        "Medishield", "Hypertension", "Shellfish"};
+
+    private Benchmarks() {} // prevents instantiation
+
+    /**
+     * Runs every benchmark.
+     */
+    public static void main(String[] args) {
+        PersonBenchmarks.run();
+        SortBenchmarks.run();
+    }
+
+    /**
+     * Times the operation returned by {@code setUp}, which is called again before every round so that each round
+     * starts from the same state. Only the operation itself is timed.
+     */
+    static void time(String name, Supplier<Runnable> setUp) {
+        time(name, WARM_UP_ROUNDS, MEASURED_ROUNDS, setUp);
+    }
+
+    /**
+     * Times the operation returned by {@code setUp} as {@link #time(String, Supplier)} does, but over the given
+     * numbers of rounds, for operations too slow to repeat the usual number of times.
+     */
+    static void time(String name, int warmUpRounds, int measuredRounds, Supplier<Runnable> setUp) {
+        for (int i = 0; i < warmUpRounds; i++) {
+            setUp.get().run();
+        }
+        long[] elapsed = new long[measuredRounds];
+        for (int i = 0; i < measuredRounds; i++) {
+            Runnable operation = setUp.get();
+            long start = System.nanoTime();
+            operation.run();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        System.out.printf("%-60s %12.3f ms%n", name, elapsed[measuredRounds / 2] / 1e6);
+    }
+
+    /**
+     * Returns {@code count} distinct persons without patient IDs, generated from {@code seed} so that every run
+     * uses the same persons. Most of them have a few tags and an appointment.
+     */
+    static List<Person> generatePersons(int count, long seed) {
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = randomWord(random) + " " + randomWord(random) + " " + i;
+            String appointment = random.nextInt(4) == 0 ? "" : String.format("%02d-%02d-%04d %02d:%02d",
+                    1 + random.nextInt(28), 1 + random.nextInt(12), 2025 + random.nextInt(3),
+                    8 + random.nextInt(10), random.nextInt(4) * 15);
+            persons.add(new Person(new Name(name), new Phone(String.valueOf(80000000 + i)),
+                    new Email("patient" + i + "@example.com"), new Address(i + " Clementi Ave 2"),
+                    randomTags(random), randomTags(random), randomTags(random), new Appointment(appointment), null));
+        }
+        return persons;
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 1 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    private static Set<Tag> randomTags(Random random) {
+        Set<Tag> tags = new HashSet<>();
+        int count = random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            tags.add(new Tag(TAG_NAMES[random.nextInt(TAG_NAMES.length)]));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Benchmarks the operations that hash persons or compare them for equality. The persons are looked up through
+ * equal copies without patient IDs, as callers outside the model hold, so the list finds each by comparing it
+ * with the persons in the list rather than by its ID.
+ */
+final class PersonBenchmarks {
+
+    private static final int LIST_SIZE = 100_000;
+    private static final int CHANGES = 1_000;
+
+    private PersonBenchmarks() {} // prevents instantiation
+
+    /**
+     * Runs the benchmarks, printing the time each takes.
+     */
+    static void run() {
+        List<Person> persons = Benchmarks.generatePersons(LIST_SIZE, 20);
+        List<Person> copies = new ArrayList<>();
+        for (int i = 0; i < CHANGES; i++) {
+            copies.add(copyWithoutId(persons.get(i * (LIST_SIZE / CHANGES))));
+        }
+        Person absent = copyWithoutId(Benchmarks.generatePersons(1, 21).get(0));
+
+        Benchmarks.time("Person.hashCode: HashSet of 100,000 persons", () -> () -> {
+            Set<Person> set = new HashSet<>(persons);
+            copies.forEach(set::contains);
+        });
+        Benchmarks.time("Person.equals: 100 scans of 100,000 persons", () -> () -> {
+            for (int i = 0; i < 100; i++) {
+                persons.indexOf(absent);
+            }
+        });
+        Benchmarks.time("UniquePersonList.setPerson: 1,000 edits in 100,000 persons", () -> {
+            UniquePersonList list = new UniquePersonList();
+            list.setPersons(persons);
+            return () -> copies.forEach(copy ->
+                    list.setPerson(copy, copy.withAppointment(new Appointment("01-01-2030 10:00"))));
+        });
+        Benchmarks.time("UniquePersonList.remove: 1,000 of 100,000 persons", () -> {
+            UniquePersonList list = new UniquePersonList();
+            list.setPersons(persons);
+            return () -> copies.forEach(list::remove);
+        });
+    }
+
+    private static Person copyWithoutId(Person person) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getAllergyTags(), person.getConditionTags(), person.getInsuranceTags(),
+                person.getAppointment(), person.getEmergencyContact());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.model.PersonOrder;
+import seedu.address.model.person.DateTime;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks the comparators the person list is sorted with, against the ones they replaced. Each round sorts a
+ * copy of a list of persons in random order, as the sorted view of the person list does.
+ */
+final class SortBenchmarks {
+
+    private static final int[] LIST_SIZES = {10_000, 100_000, 1_000_000};
+    /** The size from which a sort is too slow to repeat the usual number of rounds. */
+    private static final int LARGE_LIST_SIZE = 1_000_000;
+
+    /** The comparator {@code sort name} used before names had sort keys. */
+    private static final Comparator<Person> LOWER_CASE_NAME_ORDER =
+            Comparator.comparing(person -> person.getName().toString().toLowerCase());
+
+    /**
+     * The comparator {@code sort appointment} used before appointments had sort keys, which parsed a far future
+     * date for every person without an appointment and compared the dates themselves.
+     */
+    private static final Comparator<Person> DATE_APPOINTMENT_ORDER = Comparator.comparing(SortBenchmarks::dateOf);
+
+    private SortBenchmarks() {} // prevents instantiation
+
+    /**
+     * Runs the benchmarks, printing the time each takes.
+     */
+    static void run() {
+        List<Person> allPersons = Benchmarks.generatePersons(LARGE_LIST_SIZE, 30);
+        for (int size : LIST_SIZES) {
+            List<Person> persons = allPersons.subList(0, size);
+            time(size, "Names, lower-cased", () -> sortCopy(persons, LOWER_CASE_NAME_ORDER));
+            time(size, "Names, sort keys on first sort", () -> {
+                List<Person> renamed = withNewNames(persons);
+                return () -> renamed.sort(PersonOrder.NAME.getComparator());
+            });
+            time(size, "Names, sort keys on later sorts", () -> sortCopy(persons, PersonOrder.NAME.getComparator()));
+            time(size, "Appointments, dates", () -> sortCopy(persons, DATE_APPOINTMENT_ORDER));
+            time(size, "Appointments, sort keys", () -> sortCopy(persons, PersonOrder.APPOINTMENT.getComparator()));
+        }
+    }
+
+    /**
+     * Times the operation returned by {@code setUp} on a list of {@code size} persons, over fewer rounds if the
+     * list is large.
+     */
+    private static void time(int size, String name, Supplier<Runnable> setUp) {
+        String label = String.format("%s: %,d persons", name, size);
+        if (size >= LARGE_LIST_SIZE) {
+            Benchmarks.time(label, 1, 3, setUp);
+        } else {
+            Benchmarks.time(label, setUp);
+        }
+    }
+
+    /**
+     * Returns an operation that sorts a copy of {@code persons} with {@code comparator}.
+     */
+    private static Runnable sortCopy(List<Person> persons, Comparator<Person> comparator) {
+        List<Person> copy = new ArrayList<>(persons);
+        return () -> copy.sort(comparator);
+    }
+
+    private static LocalDateTime dateOf(Person person) {
+        DateTime dateTime = person.getAppointment().getDateTime();
+        return (dateTime == null ? new DateTime("31-12-9999 23:59") : dateTime).getLocalDateTime();
+    }
+
+    /**
+     * Returns copies of {@code persons} with new but equal names, whose sort keys have not been computed yet.
+     */
+    private static List<Person> withNewNames(List<Person> persons) {
+        List<Person> renamed = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            renamed.add(new Person(new Name(person.getName().value), person.getPhone(), person.getEmail(),
+                    person.getAddress(), person.getAllergyTags(), person.getConditionTags(),
+                    person.getInsuranceTags(), person.getAppointment(), person.getEmergencyContact()));
+        }
+        return renamed;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.EmergencyPerson;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Relationship;
+import seedu.address.model.tag.Tag;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("Medisave");
+        String second = new String("Medisave");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertNotSame(first, interner.intern(new String("Asthma")));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_valueTypes_shareInstances() {
+        assertSame(new Tag("Asthma").intern(), new Tag("Asthma").intern());
+        assertSame(new Relationship("Mother").intern(), new Relationship("Mother").intern());
+
+        EmergencyPerson contact = new EmergencyPerson(new Name("Sophia Li"), new Phone("92345678"),
+                new Relationship("Mother")).intern();
+        assertSame(contact, new EmergencyPerson(new Name("Sophia Li"), new Phone("92345678"),
+                new Relationship("Mother")).intern());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,44 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_withinMaximum_returnsDistance() {
+        assertEquals(0, StringUtil.editDistance("john", "john", 1));
+        assertEquals(1, StringUtil.editDistance("jonh", "john", 1)); // swapped letters are one edit
+        assertEquals(2, StringUtil.editDistance("jnoh", "john", 2));
+        assertEquals(1, StringUtil.editDistance("mohammad", "muhammad", 2));
+        assertEquals(2, StringUtil.editDistance("", "ab", 2));
+        assertEquals(1, StringUtil.editDistance("smith", "smyth", 1));
+    }
+
+    @Test
+    public void editDistance_beyondMaximum_returnsMaximumPlusOne() {
+        assertEquals(2, StringUtil.editDistance("jnoh", "john", 1));
+        assertEquals(3, StringUtil.editDistance("alice", "bob", 2)); // lengths differ too much
+        assertEquals(1, StringUtil.editDistance("abc", "abd", 0));
+    }
+
+    @Test
+    public void editDistance_negativeMaximum_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("a", "b", -1));
+    }
+
+    //---------------- Tests for soundex --------------------------------------
+
+    @Test
+    public void soundex_validInputs_correctResult() {
+        assertEquals("R163", StringUtil.soundex("Robert"));
+        assertEquals("R163", StringUtil.soundex("rupert"));
+        assertEquals("A261", StringUtil.soundex("Ashcraft")); // H does not separate consonants with the same code
+        assertEquals("T522", StringUtil.soundex("Tymczak")); // vowels do
+        assertEquals("P236", StringUtil.soundex("Pfister")); // first letter shares a code with the next
+        assertEquals("L000", StringUtil.soundex("Lee")); // padded with zeros
+        assertEquals("O165", StringUtil.soundex("O'Brien")); // punctuation ignored
+        assertEquals("", StringUtil.soundex("123"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -9,8 +9,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -31,6 +34,7 @@ import seedu.address.model.person.EmergencyPerson;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -186,6 +190,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> getArchivedPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Person addTagsToPerson(Person person, Set<Tag> allergies, Set<Tag> conditions,
                                Set<Tag> insurances) {
@@ -207,6 +221,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredArchivedPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -217,11 +236,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateArchivedFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasSchedule(Appointment appointment) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getPersonsWithAppointmentBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getWordsStartingWith(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getTagNamesStartingWith(TagCategory category, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void archivePerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -246,17 +285,23 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
-        public void undoAddressBook() {
+        @Override
+        public void beginTransaction() {
             throw new AssertionError("This method should not be called");
         }
 
         @Override
-        public boolean isLastCommandArchiveRelated() {
-            return false;
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called");
         }
 
         @Override
-        public void setLastCommandArchiveRelated(boolean isLastCommandArchiveRelated) {
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called");
+        }
+
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called");
         }
 
         public boolean canUndoAddressBook() {
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AgendaCommandTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 12, 15);
+    private static final LocalDate LAST_DAY = LocalDate.of(2023, 12, 20);
+
+    private final Model model = new ModelManager(new AddressBookBuilder().withPerson(CARL).withPerson(BENSON)
+            .withPerson(ALICE).build(), new UserPrefs(), new ArchivedBook());
+
+    @Test
+    public void execute_rangeWithAppointments_listsPersonsInTimeOrder() {
+        CommandResult result = new AgendaCommand(FIRST_DAY, LAST_DAY).execute(model);
+
+        assertEquals(String.format(AgendaCommand.MESSAGE_SUCCESS, 2, "15-12-2023", "20-12-2023"),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rangeWithoutAppointments_listsNoPersons() {
+        new AgendaCommand(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 1)).execute(model);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_personRescheduledIntoRange_listedInTimeOrder() {
+        new AgendaCommand(FIRST_DAY, LAST_DAY).execute(model);
+        Person rescheduledCarl = new PersonBuilder(CARL).withAppointment("16-12-2023 09:00").build();
+        model.setPerson(CARL, rescheduledCarl);
+
+        assertEquals(Arrays.asList(ALICE, rescheduledCarl, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void isReadOnly_returnsTrue() {
+        assertTrue(new AgendaCommand(FIRST_DAY, LAST_DAY).isReadOnly());
+    }
+
+    @Test
+    public void equals() {
+        AgendaCommand agendaCommand = new AgendaCommand(FIRST_DAY, LAST_DAY);
+
+        // same values -> returns true
+        assertTrue(agendaCommand.equals(new AgendaCommand(FIRST_DAY, LAST_DAY)));
+
+        // same object -> returns true
+        assertTrue(agendaCommand.equals(agendaCommand));
+
+        // null -> returns false
+        assertFalse(agendaCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(agendaCommand.equals(new AgendaCommand(FIRST_DAY, FIRST_DAY)));
+    }
+}
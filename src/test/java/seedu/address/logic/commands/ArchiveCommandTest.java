@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalArchivedBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for ArchiveCommand and UnarchiveCommand.
+ */
+public class ArchiveCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalArchivedBook());
+
+    @Test
+    public void execute_indexOutsideList_throwsCommandException() {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE);
+        assertCommandFailure(new ArchiveCommand(-1), model, expectedMessage);
+        assertCommandFailure(new ArchiveCommand(model.getFilteredPersonList().size()), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_unarchiveIndexOutsideList_throwsCommandException() {
+        String expectedMessage = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                UnarchiveCommand.MESSAGE_USAGE);
+        assertCommandFailure(new UnarchiveCommand(0), model, expectedMessage);
+        assertCommandFailure(new UnarchiveCommand(model.getFilteredArchivedPersonList().size() + 1), model,
+                expectedMessage);
+    }
+}
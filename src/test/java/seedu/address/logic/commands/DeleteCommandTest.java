@@ -73,8 +73,10 @@ public class DeleteCommandTest {
         );
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getArchivedBook());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.deletePerson(personToDelete);
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().isEmpty());
     }
 
     @Test
@@ -91,6 +93,36 @@ public class DeleteCommandTest {
                 String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void execute_patientIdOutsideFilteredList_success() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person personToDelete = model.getAddressBook().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(PersonTarget.withId(personToDelete.getId()));
+
+        String expectedMessage = String.format(
+                DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.showName(personToDelete)
+        );
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getArchivedBook());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        expectedModel.deletePerson(personToDelete);
+
+        deleteCommand.setConfirmation(false);
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownPatientId_throwsCommandException() {
+        Person deletedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.deletePerson(deletedPerson);
+        DeleteCommand deleteCommand = new DeleteCommand(PersonTarget.withId(deletedPerson.getId()));
+        deleteCommand.setConfirmation(false);
+
+        assertCommandFailure(deleteCommand, model,
+                String.format(Messages.MESSAGE_UNKNOWN_PATIENT_ID, deletedPerson.getId()));
+    }
+
     @Test
     public void execute_confirmationRequired_showsConfirmationMessage() {
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -87,6 +87,7 @@ public class EditCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs(),
             new ArchivedBook(model.getArchivedBook()));
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.setPerson(model.getFilteredPersonList().get(0), editedPerson);
         editCommand.setConfirmation(false);
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TagExpression;
+import seedu.address.model.tag.TagCategory;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFirstCommand = new FilterCommand(TagExpression.tag(null, "first"));
+        FilterCommand filterSecondCommand = new FilterCommand(TagExpression.tag(null, "second"));
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values, differing only in case -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(TagExpression.tag(null, "FIRST"))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different expression -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_andNotExpression_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        TagExpression expression = TagExpression.and(
+                TagExpression.tag(TagCategory.INSURANCE, "basic health insurance"),
+                TagExpression.not(TagExpression.tag(null, "peanuts")));
+        FilterCommand command = new FilterCommand(expression);
+        expectedModel.updateFilteredPersonList(expression);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterFilter_filterFollowsTags() {
+        TagExpression expression = TagExpression.tag(null, "peanuts");
+        new FilterCommand(expression).execute(model);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+
+        model.setPerson(CARL, new PersonBuilder(CARL).withAllergies("Peanuts").build());
+        assertEquals(2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagExpression expression = TagExpression.tag(null, "asthma");
+        FilterCommand filterCommand = new FilterCommand(expression);
+        String expected = FilterCommand.class.getCanonicalName() + "{expression=" + expression + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
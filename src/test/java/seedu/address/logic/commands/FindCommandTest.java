@@ -12,17 +12,21 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.ArchivedBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FuzzyMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneticMatchPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -109,6 +113,43 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ALICE, BENSON, CARL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeyword_personsFoundMostSimilarFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(Arrays.asList("Meyer"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate, predicate.bySimilarity());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordInArchiveMode_archivedPersonsFoundMostSimilarFirst() {
+        ArchivedBook archivedBook = new ArchivedBook();
+        archivedBook.setPersons(getTypicalPersons());
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), archivedBook);
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs(), archivedBook);
+        model.setArchiveMode(true);
+        expectedModel.setArchiveMode(true);
+
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(Arrays.asList("Meyer"));
+        CommandResult expectedResult = new CommandResult(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3),
+                CommandResult.ListType.ARCHIVE);
+        expectedModel.updateArchivedFilteredPersonList(predicate, predicate.bySimilarity());
+        assertCommandSuccess(new FindCommand(predicate), model, expectedResult, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredArchivedPersonList());
+    }
+
+    @Test
+    public void execute_phoneticKeyword_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PhoneticMatchPredicate predicate = new PhoneticMatchPredicate(Arrays.asList("Mayer"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -31,6 +31,11 @@ public class SortCommandTest {
         assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "appointment"), commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void isReadOnly_returnsTrue() {
+        assertTrue(new SortCommand("name").isReadOnly());
+    }
+
     @Test
     public void execute_invalidSortField_throwsAssertionError() {
         SortCommand sortCommand = new SortCommand("invalid");
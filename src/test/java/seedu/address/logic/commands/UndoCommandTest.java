@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
@@ -74,6 +75,18 @@ public class UndoCommandTest {
         assertTrue(model.hasPerson(personToDelete));
     }
 
+    @Test
+    public void execute_undoArchiveCommand_restoresBothBooks() throws CommandException {
+        Person personToArchive = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        new ArchiveCommand(INDEX_FIRST_PERSON.getZeroBased()).execute(model);
+        assertTrue(model.getArchivedBook().getArchivedContactList().contains(personToArchive));
+
+        new UndoCommand(model).execute(model);
+
+        // the person is back in its original position and no longer archived
+        assertEquals(expectedModel, model);
+    }
+
     @Test
     public void execute_undoNoCommand_failure() {
         UndoCommand undoCommand = new UndoCommand(model);
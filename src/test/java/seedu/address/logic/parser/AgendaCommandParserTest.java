@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+
+public class AgendaCommandParserTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 6, 1);
+
+    private final AgendaCommandParser parser = new AgendaCommandParser(
+            Clock.fixed(Instant.parse("2030-06-01T08:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_keywords_returnsAgendaCommandRelativeToToday() {
+        assertParseSuccess(parser, "today", new AgendaCommand(TODAY, TODAY));
+        assertParseSuccess(parser, " WEEK ", new AgendaCommand(TODAY, TODAY.plusDays(6)));
+    }
+
+    @Test
+    public void parse_dates_returnsAgendaCommand() {
+        assertParseSuccess(parser, "15-12-2030", new AgendaCommand(LocalDate.of(2030, 12, 15),
+                LocalDate.of(2030, 12, 15)));
+        assertParseSuccess(parser, "15-12-2030  02-01-2031", new AgendaCommand(LocalDate.of(2030, 12, 15),
+                LocalDate.of(2031, 1, 2)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "31-02-2030", AgendaCommand.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "tomorrow", AgendaCommand.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "02-01-2031 15-12-2030", AgendaCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, "01-01-2030 02-01-2030 03-01-2030",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+    }
+}
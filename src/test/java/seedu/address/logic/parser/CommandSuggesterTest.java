@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ArchivedBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommandSuggesterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new ArchivedBook());
+    private final CommandSuggester suggester = new CommandSuggester(model);
+
+    @Test
+    public void suggest_findKeyword_suggestsWordsWithPrefix() {
+        assertEquals(List.of("meier", "meyer"), suggester.suggest("find alice ME"));
+        assertEquals(List.of("meier", "meyer"), suggester.suggest("find me*"));
+    }
+
+    @Test
+    public void suggest_filterTag_suggestsTagNamesWithPrefix() {
+        assertEquals(List.of("basic health insurance"), suggester.suggest("filter asthma AND bas"));
+        assertEquals(List.of("ta/peanuts", "ta/pollen"), suggester.suggest("filter ta/p"));
+        assertEquals(List.of("peanuts", "pollen", "premium health insurance"), suggester.suggest("filter p"));
+    }
+
+    @Test
+    public void suggest_nothingToComplete_returnsEmptyList() {
+        // no word after the command word
+        assertEquals(List.of(), suggester.suggest("find"));
+        assertEquals(List.of(), suggester.suggest("find "));
+
+        // word already finished
+        assertEquals(List.of(), suggester.suggest("find alice "));
+
+        // operator
+        assertEquals(List.of(), suggester.suggest("filter asthma AND"));
+
+        // command without suggestions
+        assertEquals(List.of(), suggester.suggest("delete 1"));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.TagExpression;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagCategory;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_danglingOperator_throwsParseException() {
+        assertParseFailure(parser, "asthma AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "OR asthma", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "asthma AND OR peanuts", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTagName_throwsParseException() {
+        assertParseFailure(parser, "asthma AND pea-nuts", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "ta/", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        TagExpression asthma = TagExpression.tag(null, "asthma");
+        TagExpression medisave = TagExpression.tag(TagCategory.INSURANCE, "medisave");
+        TagExpression peanuts = TagExpression.tag(null, "peanuts");
+
+        // binary NOT reads as AND NOT
+        assertParseSuccess(parser, "asthma AND ti/medisave NOT peanuts", new FilterCommand(
+                TagExpression.and(TagExpression.and(asthma, medisave), TagExpression.not(peanuts))));
+
+        // AND binds tighter than OR
+        assertParseSuccess(parser, " asthma OR ti/medisave  AND NOT peanuts ", new FilterCommand(
+                TagExpression.or(asthma, TagExpression.and(medisave, TagExpression.not(peanuts)))));
+
+        // consecutive words form one tag name
+        assertParseSuccess(parser, "ti/basic health insurance", new FilterCommand(
+                TagExpression.tag(TagCategory.INSURANCE, "basic health insurance")));
+    }
+}
@@ -9,7 +9,9 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.FuzzyMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneticMatchPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +33,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyKeywords_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new FuzzyMatchPredicate(Arrays.asList("Jonh", "Muhammad")));
+        assertParseSuccess(parser, "~Jonh ~Muhammad", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_phoneticKeywords_returnsPhoneticFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new PhoneticMatchPredicate(Arrays.asList("Smyth", "Jon")));
+        assertParseSuccess(parser, "?Smyth ?Jon", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFuzzyKeywords_throwsParseException() {
+        assertParseFailure(parser, "~Jonh Muhammad", FindCommand.MESSAGE_MIXED_KEYWORD_MODES);
+        assertParseFailure(parser, "~Jonh ?Jon", FindCommand.MESSAGE_MIXED_KEYWORD_MODES);
+        assertParseFailure(parser, "Jon ?Jon", FindCommand.MESSAGE_MIXED_KEYWORD_MODES);
+        assertParseFailure(parser, "~", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
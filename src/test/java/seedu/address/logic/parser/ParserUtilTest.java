@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_PATIENT_ID;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -13,6 +14,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.PersonTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -56,6 +58,20 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parsePersonTarget_validInput_success() throws Exception {
+        assertEquals(PersonTarget.atIndex(INDEX_FIRST_PERSON), ParserUtil.parsePersonTarget(" 1 "));
+        assertEquals(PersonTarget.withId(42), ParserUtil.parsePersonTarget(" #42 "));
+    }
+
+    @Test
+    public void parsePersonTarget_invalidId_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_PATIENT_ID, () -> ParserUtil.parsePersonTarget("#"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_PATIENT_ID, () -> ParserUtil.parsePersonTarget("#0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_PATIENT_ID, () -> ParserUtil.parsePersonTarget("#+4"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_PATIENT_ID, () -> ParserUtil.parsePersonTarget("#4a"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
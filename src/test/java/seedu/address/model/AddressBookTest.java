@@ -42,6 +42,14 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_fromAddressBook_copiesPersonsAndIdentities() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        assertEquals(newData.getPersonList(), addressBook.getPersonList());
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -102,6 +110,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -7,16 +7,24 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +96,187 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void commitTransaction_severalChanges_undoneInOneStep() throws CommandException {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitTransaction();
+
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitTransaction_filterUpdated_appliesFilterOnCommit() {
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        modelManager.updateFilteredPersonList(unused -> false);
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+
+        modelManager.commitTransaction();
+        assertEquals(0, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void rollbackTransaction_revertsChangesMadeDuringTransaction() {
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.rollbackTransaction();
+
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(),
+                new AddressBook(modelManager.getAddressBook()));
+    }
+
+    @Test
+    public void unarchivePerson_duplicateInAddressBook_leavesBothBooksUnchanged() throws CommandException {
+        modelManager.addPerson(ALICE);
+        modelManager.archivePerson(ALICE);
+        modelManager.addPerson(ALICE);
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.unarchivePerson(ALICE));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredArchivedPersonList());
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+
+        // the failed unarchive left nothing behind to be undone with the next step
+        modelManager.undoAddressBook();
+        assertEquals(0, modelManager.getAddressBook().getPersonList().size());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredArchivedPersonList());
+    }
+
+    @Test
+    public void addPerson_archivedBookLoaded_newIdNotTakenFromArchive() {
+        ArchivedBook archivedBook = new ArchivedBook();
+        archivedBook.addArchivedPerson(ALICE.withId(4));
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), archivedBook);
+
+        model.addPerson(BENSON);
+        assertEquals(5, model.getAddressBook().getPersonList().get(0).getId());
+    }
+
+    @Test
+    public void beginTransaction_transactionInProgress_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+    }
+
+    @Test
+    public void updateArchivedFilteredPersonList_keywordPredicate_followsArchiveAndUndo() throws CommandException {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateArchivedFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+        assertEquals(0, modelManager.getFilteredArchivedPersonList().size());
+
+        modelManager.archivePerson(ALICE);
+        modelManager.archivePerson(BENSON);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredArchivedPersonList());
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(0, modelManager.getFilteredArchivedPersonList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_matchesKeptInAddressBookOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("carl", "alice")));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Carl").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(ALICE, renamedBenson, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void deletePerson_indexedPredicate_otherMatchesKeptInAddressBookOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(
+                new NameContainsKeywordsPredicate(Arrays.asList("alice", "benson", "carl")));
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(CARL, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_duplicatePerson_filteredListUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("alice", "benson")));
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.setPerson(ALICE, BENSON));
+        assertThrows(DuplicatePersonException.class, () -> modelManager.addPerson(BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersonListByName_showsSortedViewWithoutChangingAddressBook() {
+        modelManager.addPerson(BENSON);
+        modelManager.sortPersonListByName();
+        assertEquals(PersonOrder.NAME, modelManager.getUserPrefs().getPersonOrder());
+
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getAddressBook().getPersonList());
+
+        Person rescheduledAlice = new PersonBuilder(ALICE).withAppointment("01-01-2030 09:00").build();
+        modelManager.setPerson(ALICE, rescheduledAlice);
+        modelManager.sortPersonListByAppointment();
+        assertEquals(Arrays.asList(BENSON, rescheduledAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_keywordPredicate_keptAcrossSinglePersonChanges() {
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(editedAlice);
+        assertEquals(0, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void undoAddressBook_singleEdit_reportedAsOneChangeToOneRow() throws CommandException {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+
+        List<Integer> removedPerEvent = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            int removed = 0;
+            while (change.next()) {
+                removed += change.getRemovedSize();
+            }
+            removedPerEvent.add(removed);
+        });
+        modelManager.undoAddressBook();
+
+        assertEquals(List.of(1), removedPerEvent);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+public class SearchCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchCache("active", 0));
+    }
+
+    @Test
+    public void get_equivalentKeywords_hit() {
+        SearchCache cache = new SearchCache("active", SearchCache.DEFAULT_CAPACITY);
+        CountingSearch search = new CountingSearch(List.of(ALICE));
+
+        assertEquals(List.of(ALICE), cache.get(keywords("Alice", "Pauline"), 0, search));
+        assertEquals(List.of(ALICE), cache.get(keywords("pauline", "ALICE", "alice"), 0, search));
+
+        assertEquals(1, search.calls);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void get_listChanged_miss() {
+        SearchCache cache = new SearchCache("active", SearchCache.DEFAULT_CAPACITY);
+        CountingSearch search = new CountingSearch(List.of(ALICE));
+
+        cache.get(keywords("Alice"), 0, search);
+        search.result = List.of(ALICE, BENSON);
+
+        assertEquals(List.of(ALICE, BENSON), cache.get(keywords("Alice"), 1, search));
+        assertEquals(2, search.calls);
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void get_pastCapacity_evictsLeastRecentlyUsed() {
+        SearchCache cache = new SearchCache("active", 2);
+        CountingSearch search = new CountingSearch(List.of(ALICE));
+
+        cache.get(keywords("a"), 0, search);
+        cache.get(keywords("b"), 0, search);
+        cache.get(keywords("a"), 0, search);
+        cache.get(keywords("c"), 0, search); // evicts "b", the least recently used
+        cache.get(keywords("a"), 0, search);
+        cache.get(keywords("b"), 0, search);
+
+        assertEquals(4, search.calls);
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    public void getSummary_hitsAndMisses_reportsHitRate() {
+        SearchCache cache = new SearchCache("archived", SearchCache.DEFAULT_CAPACITY);
+        CountingSearch search = new CountingSearch(List.of(ALICE));
+        assertEquals("Search cache of archived list (hits: 0, misses: 0, hit rate: 0%)", cache.getSummary());
+
+        cache.get(keywords("Alice"), 0, search);
+        cache.get(keywords("Alice"), 0, search);
+        cache.get(keywords("Alice"), 0, search);
+        cache.get(keywords("Benson"), 0, search);
+
+        assertEquals("Search cache of archived list (hits: 2, misses: 2, hit rate: 50%)", cache.getSummary());
+    }
+
+    @Test
+    public void get_unanswerablePredicate_notCachedOrCounted() {
+        SearchCache cache = new SearchCache("active", SearchCache.DEFAULT_CAPACITY);
+        CountingSearch search = new CountingSearch(null);
+
+        assertNull(cache.get(keywords("Alice"), 0, search));
+        assertNull(cache.get(keywords("Alice"), 0, search));
+
+        assertEquals(2, search.calls);
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    private static NameContainsKeywordsPredicate keywords(String... keywords) {
+        return new NameContainsKeywordsPredicate(List.of(keywords));
+    }
+
+    /**
+     * A search that returns a fixed result and counts how often it is run.
+     */
+    private static class CountingSearch implements Function<Predicate<Person>, List<Person>> {
+        private List<Person> result;
+        private int calls;
+
+        CountingSearch(List<Person> result) {
+            this.result = result;
+        }
+
+        @Override
+        public List<Person> apply(Predicate<Person> predicate) {
+            calls++;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    @Test
+    public void undo_multipleCommits_restoresEachState() throws CommandException {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(List.of(ALICE, BOB), versionedAddressBook.getPersonList());
+        versionedAddressBook.undo();
+        assertEquals(List.of(ALICE), versionedAddressBook.getPersonList());
+        versionedAddressBook.undo();
+        assertEquals(List.of(), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(List.of(ALICE, BOB), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoStates() throws CommandException {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook());
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.undo();
+        assertEquals(List.of(), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_beyondMaxUndoDepth_discardsOldestStates() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(new AddressBook(), 2,
+                VersionedAddressBook.DEFAULT_MAX_RETAINED_PERSONS);
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        assertDoesNotUndoMoreThan(2, versionedAddressBook);
+    }
+
+    @Test
+    public void undo_removedPerson_reinsertsAtOriginalPosition() throws CommandException {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+        List<Person> originalPersons = new ArrayList<>(versionedAddressBook.getPersonList());
+        versionedAddressBook.removePerson(originalPersons.get(2));
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(originalPersons, versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertFalse(versionedAddressBook.getPersonList().contains(originalPersons.get(2)));
+    }
+
+    @Test
+    public void undo_stepWithRecordedChange_revertsRecordedChange() throws CommandException {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+        ArchivedBook archivedBook = new ArchivedBook();
+        archivedBook.addArchivedPerson(ALICE);
+        versionedAddressBook.recordChange(() -> archivedBook.unarchivePerson(ALICE),
+                () -> archivedBook.addArchivedPerson(ALICE));
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(archivedBook.hasPerson(ALICE));
+        versionedAddressBook.redo();
+        assertTrue(archivedBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_noChanges_doesNotAddStep() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_singleEdit_retainsOnlyEditedPersons() {
+        List<Person> persons = generatePersons(10 * PersonListSnapshot.CHUNK_SIZE);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBook);
+
+        Person target = persons.get(0);
+        versionedAddressBook.setPerson(target, new PersonBuilder(target).withAddress("changed").build());
+        versionedAddressBook.commit();
+
+        assertEquals(2, versionedAddressBook.getRetainedPersons());
+    }
+
+    @Test
+    public void commit_bulkRemovalAtFront_copiesOnlyFirstChunkAgain() throws CommandException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(10 * PersonListSnapshot.CHUNK_SIZE));
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBook);
+        List<Person> persons = new ArrayList<>(versionedAddressBook.getPersonList());
+        List<Person> remaining = new ArrayList<>(persons.subList(1, persons.size()));
+
+        versionedAddressBook.setPersons(remaining);
+        versionedAddressBook.commit();
+
+        // the list before, and the persons after that were in its first chunk
+        assertEquals(persons.size() + PersonListSnapshot.CHUNK_SIZE - 1, versionedAddressBook.getRetainedPersons());
+        versionedAddressBook.undo();
+        assertEquals(persons, versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(remaining, versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_beyondMaxRetainedPersons_discardsOldestStates() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        int size = typicalAddressBook.getPersonList().size();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(typicalAddressBook,
+                VersionedAddressBook.DEFAULT_MAX_UNDO_DEPTH, size + 1);
+        versionedAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress("first").build());
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+
+        assertTrue(versionedAddressBook.getRetainedPersons() <= size + 1);
+        assertDoesNotUndoMoreThan(1, versionedAddressBook);
+    }
+
+    private static void assertDoesNotUndoMoreThan(int depth, VersionedAddressBook versionedAddressBook) {
+        for (int i = 0; i < depth; i++) {
+            assertTrue(versionedAddressBook.canUndo());
+            try {
+                versionedAddressBook.undo();
+            } catch (CommandException e) {
+                throw new AssertionError("Undo should be possible.", e);
+            }
+        }
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    private static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Patient " + i).withPhone("9" + (1000000 + i))
+                    .withEmail("patient" + i + "@example.com").build());
+        }
+        return persons;
+    }
+}
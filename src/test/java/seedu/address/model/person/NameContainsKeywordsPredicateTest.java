@@ -58,6 +58,14 @@ public class NameContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
+    @Test
+    public void test_prefixKeyword_matchesWordsStartingWithPrefix() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("ali*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alice").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("ALI").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bali").build()));
+    }
+
     @Test
     public void test_nameDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -57,4 +58,20 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_equalNames_sameHashCode() {
+        Name name = new Name("Valid Name");
+        Name sameName = new Name("vALID nAME ");
+
+        assertTrue(name.equals(sameName));
+        assertEquals(name.hashCode(), sameName.hashCode());
+    }
+
+    @Test
+    public void getSortKey_ignoresCase() {
+        assertEquals(0, new Name("alex Yeoh").getSortKey().compareTo(new Name("Alex yeoh").getSortKey()));
+        assertTrue(new Name("alex Yeoh").getSortKey().compareTo(new Name("Bernice Yu").getSortKey()) < 0);
+        assertTrue(new Name("Bernice Yu").getSortKey().compareTo(new Name("charlotte").getSortKey()) < 0);
+    }
 }
@@ -86,6 +86,21 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        // same values, including a name that differs only in case -> same hash code
+        Person aliceCopy = new PersonBuilder(ALICE).withName(ALICE.getName().toString().toUpperCase())
+                .withAllergies("Peanuts", "Dust").withEmergencyPerson("Sophia Li", "92345678", "Mother").build();
+        Person otherAliceCopy = new PersonBuilder(ALICE).withAllergies("Dust", "Peanuts")
+                .withEmergencyPerson("Sophia Li", "92345678", "Mother").build();
+        assertTrue(aliceCopy.equals(otherAliceCopy));
+        assertEquals(aliceCopy.hashCode(), otherAliceCopy.hashCode());
+
+        // different emergency contact -> returns false
+        assertFalse(aliceCopy.equals(new PersonBuilder(aliceCopy)
+                .withEmergencyPerson("Sophia Li", "92345678", "Father").build()));
+    }
+
     @Test
     public void toStringMethod() {
         Person alicePerson = new PersonBuilder(ALICE).build();
@@ -3,19 +3,32 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagCategory;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListPanelTest {
@@ -46,6 +59,36 @@ public class UniquePersonListPanelTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void containsExcluding_onlyExcludedPersonMatches_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertFalse(uniquePersonList.containsExcluding(editedAlice, ALICE));
+    }
+
+    @Test
+    public void containsExcluding_otherPersonMatches_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_AMY).build();
+        assertTrue(uniquePersonList.containsExcluding(editedBob, ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -108,6 +151,16 @@ public class UniquePersonListPanelTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesIdentityWithTargetAndOther_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person otherAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.add(otherAlice);
+        // same phone as ALICE, same email as otherAlice
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -161,6 +214,149 @@ public class UniquePersonListPanelTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_reportsFirstDuplicatePair() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> persons = Arrays.asList(BOB, ALICE, editedAlice);
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(ALICE, editedAlice).getMessage(), ()
+            -> uniquePersonList.setPersons(persons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_listSharingPatientId_throwsDuplicatePersonException() {
+        Person alice = ALICE.withId(3);
+        Person benson = BENSON.withId(3);
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(3, alice, benson).getMessage(), ()
+            -> uniquePersonList.setPersons(Arrays.asList(CARL, alice, benson)));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void setPersons_rejectedList_usesUpNoIds() {
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE)));
+        assertEquals(1, uniquePersonList.getLastId());
+
+        uniquePersonList.add(CARL);
+        assertEquals(2, uniquePersonList.asUnmodifiableObservableList().get(1).getId());
+    }
+
+    @Test
+    public void setPersons_listSharingEnds_reportsOnlyChangedRange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        List<Person> stored = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        Person editedBenson = new PersonBuilder(BENSON).withName("Bernard Meier").build()
+                .withId(stored.get(1).getId());
+        stored.set(1, editedBenson);
+        uniquePersonList.setPersons(stored);
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+        assertEquals(2, change.getTo());
+        assertEquals(List.of(BENSON), change.getRemoved());
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertEquals(List.of(editedBenson), uniquePersonList.getPersonsWithAnyKeyword(List.of("bernard")));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAnyKeyword(List.of("benson")));
+    }
+
+    @Test
+    public void setPersons_reorderedList_keepsIndexes() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, BENSON));
+
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertEquals(List.of(CARL), uniquePersonList.getPersonsWithAnyKeyword(List.of("carl")));
+    }
+
+    @Test
+    public void setPersons_smallChangeWithDuplicatePersons_leavesListUnchanged() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE);
+        uniquePersonList.setPersons(persons);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, editedAlice)));
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ELLE));
+        assertEquals(List.of(ELLE), uniquePersonList.getPersonsWithAnyKeyword(List.of("elle")));
+    }
+
+    @Test
+    public void getPersonById_followsAddEditAndRemove() {
+        uniquePersonList.add(ALICE);
+        Person storedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        assertTrue(storedAlice.hasId());
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonById(storedAlice.getId()));
+
+        Person editedAlice = storedAlice.withAppointment(new Appointment("01-01-2030 10:00"));
+        uniquePersonList.setPerson(storedAlice, editedAlice);
+        assertEquals(storedAlice.getId(), editedAlice.getId());
+        assertTrue(uniquePersonList.getPersonById(storedAlice.getId()).get() == editedAlice);
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(storedAlice.getId()));
+    }
+
+    @Test
+    public void add_personsWithoutIds_eachListCountsItsOwnIds() {
+        UniquePersonList otherList = new UniquePersonList();
+        otherList.add(BENSON);
+        otherList.add(CARL);
+        uniquePersonList.add(ALICE);
+
+        assertEquals(1, uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+        assertEquals(List.of(1L, 2L), otherList.asUnmodifiableObservableList().stream().map(Person::getId).toList());
+    }
+
+    @Test
+    public void add_idHeldByAnotherPerson_givenNextUnusedId() {
+        uniquePersonList.add(ALICE.withId(5));
+        uniquePersonList.add(BENSON.withId(5));
+        uniquePersonList.add(CARL);
+
+        assertEquals(List.of(5L, 6L, 7L),
+                uniquePersonList.asUnmodifiableObservableList().stream().map(Person::getId).toList());
+    }
+
+    @Test
+    public void setPerson_editedPersonWithoutId_keepsTargetId() {
+        uniquePersonList.add(ALICE.withId(3));
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonById(3));
+    }
+
+    @Test
+    public void indexOf_afterInsertAndRemove_returnsCurrentPosition() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.add(0, DANIEL);
+        assertEquals(3, uniquePersonList.indexOf(CARL));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+
+        assertEquals(1, uniquePersonList.indexOf(BENSON));
+        assertEquals(0, uniquePersonList.indexOf(DANIEL));
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+
+        // an equal person with a different patient ID is still found
+        assertEquals(2, uniquePersonList.indexOf(new PersonBuilder(CARL).build()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -171,4 +367,145 @@ public class UniquePersonListPanelTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void hasClashingAppointment_appointmentWithinWindow_returnsTrue() {
+        uniquePersonList.add(new PersonBuilder(ALICE).withAppointment("15-12-2030 10:00").build());
+        assertTrue(uniquePersonList.hasClashingAppointment(new Appointment("15-12-2030 10:14")));
+        assertTrue(uniquePersonList.hasClashingAppointment(new Appointment("15-12-2030 09:46")));
+    }
+
+    @Test
+    public void hasClashingAppointment_appointmentOutsideWindow_returnsFalse() {
+        uniquePersonList.add(new PersonBuilder(ALICE).withAppointment("15-12-2030 10:00").build());
+        assertFalse(uniquePersonList.hasClashingAppointment(new Appointment("15-12-2030 10:15")));
+        assertFalse(uniquePersonList.hasClashingAppointment(new Appointment("15-12-2030 09:45")));
+    }
+
+    @Test
+    public void hasClashingAppointment_appointmentRescheduled_usesNewTime() {
+        Person alice = new PersonBuilder(ALICE).withAppointment("15-12-2030 10:00").build();
+        uniquePersonList.add(alice);
+        uniquePersonList.setPerson(alice, new PersonBuilder(alice).withAppointment("16-12-2030 10:00").build());
+        assertFalse(uniquePersonList.hasClashingAppointment(new Appointment("15-12-2030 10:00")));
+        assertTrue(uniquePersonList.hasClashingAppointment(new Appointment("16-12-2030 10:05")));
+    }
+
+    @Test
+    public void getPersonsWithAppointmentBetween_returnsPersonsInRangeInTimeOrder() {
+        Person alice = new PersonBuilder(ALICE).withAppointment("15-12-2030 10:00").build();
+        Person bob = new PersonBuilder(BOB).withAppointment("15-12-2030 09:00").build();
+        Person carl = new PersonBuilder().withName("Carl").withAppointment("16-12-2030 00:00").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob, carl));
+
+        assertEquals(Arrays.asList(bob, alice), uniquePersonList.getPersonsWithAppointmentBetween(
+                LocalDateTime.of(2030, 12, 15, 0, 0), LocalDateTime.of(2030, 12, 16, 0, 0)));
+    }
+
+    @Test
+    public void getPersonsMatching_tagExpression_matchesSameAsTest() {
+        Person carl = new PersonBuilder().withName("Carl").withConditions("Asthma").withAllergies("Peanuts").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+
+        TagExpression asthmaNotPeanuts = TagExpression.and(TagExpression.tag(null, "asthma"),
+                TagExpression.not(TagExpression.tag(TagCategory.ALLERGY, "PEANUTS")));
+        assertEquals(List.of(BOB), uniquePersonList.getPersonsMatching(asthmaNotPeanuts));
+        assertTrue(asthmaNotPeanuts.test(BOB));
+        assertFalse(asthmaNotPeanuts.test(carl));
+
+        TagExpression peanutsOrAsthma = TagExpression.or(TagExpression.tag(null, "peanuts"),
+                TagExpression.tag(TagCategory.CONDITION, "asthma"));
+        assertEquals(new HashSet<>(List.of(ALICE, BOB, carl)),
+                new HashSet<>(uniquePersonList.getPersonsMatching(peanutsOrAsthma)));
+
+        // category restricts the match
+        assertEquals(List.of(), uniquePersonList.getPersonsMatching(TagExpression.tag(TagCategory.ALLERGY, "asthma")));
+    }
+
+    @Test
+    public void getPersonsMatching_afterEditAndRemove_usesCurrentTags() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withConditions("Asthma").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+        Person amy = new PersonBuilder().withName("Amy").withConditions("Asthma").build();
+        uniquePersonList.add(amy);
+
+        TagExpression asthma = TagExpression.tag(TagCategory.CONDITION, "Asthma");
+        assertEquals(new HashSet<>(List.of(editedAlice, amy)),
+                new HashSet<>(uniquePersonList.getPersonsMatching(asthma)));
+        assertEquals(List.of(),
+                uniquePersonList.getPersonsMatching(TagExpression.tag(null, "Premium Health Insurance")));
+    }
+
+    @Test
+    public void getPersonsWithAnyKeyword_keywordsInAnyField_returnsUnionIgnoringCase() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(new HashSet<>(List.of(ALICE, BOB)), new HashSet<>(uniquePersonList.getPersonsWithAnyKeyword(
+                Arrays.asList("PAULINE", ALICE.getPhone().value, BOB.getEmail().value.toUpperCase()))));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAnyKeyword(Arrays.asList("Paul")));
+    }
+
+    @Test
+    public void getPersonsWithAnyKeyword_changesBeforeAndAfterFirstSearch_findsCurrentPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAnyKeyword(List.of("alice")));
+        assertEquals(List.of(BENSON), uniquePersonList.getPersonsWithAnyKeyword(List.of("benson")));
+
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(BENSON);
+        assertEquals(List.of(CARL), uniquePersonList.getPersonsWithAnyKeyword(List.of("carl")));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAnyKeyword(List.of("benson")));
+    }
+
+    @Test
+    public void getPersonsWithAnyKeyword_afterEdit_usesCurrentWords() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAnyKeyword(Arrays.asList("Alice")));
+        assertEquals(List.of(renamedAlice), uniquePersonList.getPersonsWithAnyKeyword(Arrays.asList("alicia")));
+    }
+
+    @Test
+    public void getPersonsWithAnyKeyword_prefixKeyword_returnsPersonsWithWordStartingWithPrefix() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(List.of(ALICE), uniquePersonList.getPersonsWithAnyKeyword(Arrays.asList("PAUL*")));
+        assertEquals(List.of("pauline"), uniquePersonList.getWordsStartingWith("Paul", 5));
+    }
+
+    @Test
+    public void getPersonsMatching_fuzzyPredicate_matchesSameAsTest() {
+        Person john = new PersonBuilder().withName("John Smith").withAddress("Clementi Road").build();
+        Person muhammad = new PersonBuilder().withName("Muhammad Ali").withPhone("91234567")
+                .withEmail("ali@example.com").build();
+        Person jo = new PersonBuilder().withName("Jo").withPhone("92345678").withEmail("jo@example.com").build();
+        List<Person> persons = Arrays.asList(john, muhammad, jo);
+        uniquePersonList.setPersons(persons);
+
+        for (List<String> keywords : List.of(List.of("Jonh"), List.of("Mohammad", "clementy"), List.of("jo"),
+                List.of("smtih"), List.of("xyz"), List.of("Jhn"), List.of("aly", "rood"), List.of("Smithh"))) {
+            FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(keywords);
+            assertEquals(new HashSet<>(persons.stream().filter(predicate).toList()),
+                    new HashSet<>(uniquePersonList.getPersonsMatching(predicate)), keywords.toString());
+        }
+        assertEquals(List.of(muhammad), uniquePersonList.getPersonsMatching(
+                new FuzzyMatchPredicate(List.of("Mohammad"))));
+    }
+
+    @Test
+    public void getPersonsMatching_phoneticPredicate_followsNameChanges() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        PhoneticMatchPredicate predicate = new PhoneticMatchPredicate(List.of("Poline"));
+        assertEquals(List.of(ALICE), uniquePersonList.getPersonsMatching(predicate));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Smith").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(), uniquePersonList.getPersonsMatching(predicate));
+        assertEquals(List.of(renamedAlice), uniquePersonList.getPersonsMatching(
+                new PhoneticMatchPredicate(List.of("Smyth"))));
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag PEANUTS = new Tag("Peanuts");
+    private static final Tag ASTHMA = new Tag("Asthma");
+    private static final Tag MEDISAVE = new Tag("Medisave");
+
+    @Test
+    public void of_repeatedTags_keepsEachOnce() {
+        TagSet tags = TagSet.of(List.of(PEANUTS, ASTHMA, new Tag("Peanuts")));
+
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new Tag("Peanuts")));
+        assertTrue(tags.contains(ASTHMA));
+        assertFalse(tags.contains(MEDISAVE));
+        assertFalse(tags.contains(new Tag("Never Used Anywhere")));
+    }
+
+    @Test
+    public void of_emptyOrTagSet_reusesInstance() {
+        TagSet tags = TagSet.of(Set.of(PEANUTS));
+
+        assertSame(TagSet.EMPTY, TagSet.of(Set.of()));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void unionAndDifference() {
+        TagSet tags = TagSet.of(Set.of(PEANUTS));
+
+        assertSame(tags, tags.union(Set.of(PEANUTS)));
+        assertEquals(Set.of(PEANUTS, MEDISAVE), tags.union(Set.of(MEDISAVE)));
+        assertSame(tags, tags.difference(Set.of(ASTHMA)));
+        assertSame(TagSet.EMPTY, tags.difference(Set.of(PEANUTS)));
+    }
+
+    @Test
+    public void equalsAndHashCode_matchOtherSets() {
+        TagSet tags = TagSet.of(Set.of(PEANUTS, ASTHMA));
+        Set<Tag> hashSet = Set.of(ASTHMA, PEANUTS);
+
+        assertEquals(TagSet.of(List.of(ASTHMA, PEANUTS)), tags);
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertFalse(tags.equals(TagSet.of(Set.of(PEANUTS))));
+    }
+
+    @Test
+    public void iterator_returnsSharedInstances() {
+        Tag asthma = new Tag("Asthma").intern();
+        assertSame(asthma, TagSet.of(Set.of(new Tag("Asthma"))).iterator().next());
+        assertSame(asthma, TagSet.of(Set.of(PEANUTS)).union(Set.of(new Tag("Asthma"))).stream()
+                .filter(ASTHMA::equals).findFirst().get());
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> TagSet.of(Set.of(PEANUTS)).add(ASTHMA));
+    }
+}
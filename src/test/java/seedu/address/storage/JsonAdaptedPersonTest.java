@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -54,6 +55,26 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_keepsId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON.withId(7));
+        assertEquals(7, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_personWithoutId_loadedWithoutId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        assertFalse(person.toModelType().hasId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(0L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_ALLERGY_TAGS, VALID_CONDITION_TAGS, VALID_INSURANCE_TAGS,
+                VALID_APPOINTMENT, VALID_EMERGENCY_CONTACT);
+        assertThrows(IllegalValueException.class, Person.MESSAGE_ID_CONSTRAINTS, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -5,6 +5,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +46,25 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_personWithoutIdBeforePersonWithId_givenUnusedId() throws Exception {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(Arrays.asList(
+                new JsonAdaptedPerson("Alice Pauline", "94351253", "alice@example.com", "Jurong West Ave 6",
+                        null, null, null, "01-05-2025 14:30", null),
+                new JsonAdaptedPerson(5L, "Benson Meier", "98765432", "johnd@example.com", "Clementi Ave 2",
+                        null, null, null, "02-05-2025 14:30", null)));
+
+        AddressBook addressBook = data.toModelType();
+        assertEquals(6, addressBook.getPersonList().get(0).getId());
+        assertEquals(5, addressBook.getPersonList().get(1).getId());
+    }
+
 }
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalArchivedBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final int ONE_HOUR = 3_600_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonArchivedBookStorage(testFolder.resolve("archived")));
+    }
+
+    @Test
+    public void saveAddressBook_noDelay_writesAtOnce() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        assertFalse(Files.exists(storageManager.getArchivedContactsFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfChanges_writesLatestOnFlush() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, ONE_HOUR);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.saveArchivedContacts(getTypicalArchivedBook());
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        storage.flush();
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertTrue(Files.exists(storageManager.getArchivedContactsFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPersons_notWrittenAgain() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_writesFailedCopy() throws Exception {
+        FailingStorageManager failingStorage = new FailingStorageManager(1);
+        WriteBehindStorage storage = new WriteBehindStorage(failingStorage, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertTrue(failingStorage.failedWrite.await(10, TimeUnit.SECONDS));
+
+        storage.flush();
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFailed_retriedByNextSave() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(new FailingStorageManager(1), 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code StorageManager} writing to the test folder whose first few writes of the address book fail.
+     */
+    private class FailingStorageManager extends StorageManager {
+        private final CountDownLatch failedWrite;
+
+        FailingStorageManager(int failures) {
+            super(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                    new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                    new JsonArchivedBookStorage(testFolder.resolve("archived")));
+            failedWrite = new CountDownLatch(failures);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failedWrite.getCount() > 0) {
+                failedWrite.countDown();
+                throw new IOException("Disk full");
+            }
+            super.saveAddressBook(addressBook);
+        }
+    }
+}